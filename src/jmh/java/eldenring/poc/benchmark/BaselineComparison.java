@@ -0,0 +1,77 @@
+package eldenring.poc.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result file (-rf json) with a checked-in baseline and prints the change of every score.
+ * Exits with status 1 if any benchmark got slower than the threshold, so it can gate a build.
+ * Scores are compared as average times: a higher score is slower.
+ * Run with: mvn -Pbenchmark compile exec:exec -Dbenchmark.main=eldenring.poc.benchmark.BaselineComparison
+ * -Djmh.args="src/jmh/baselines/service-benchmark.json target/jmh-result.json [thresholdPercent]"
+ */
+public final class BaselineComparison {
+    private static final double DEFAULT_THRESHOLD_PERCENT = 15;
+
+    private BaselineComparison() { }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparison <baseline.json> <result.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        Map<String, JsonNode> baseline = read(Path.of(args[0]));
+        Map<String, JsonNode> result = read(Path.of(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-60s %14s %14s %9s%n", "benchmark", "baseline", "result", "change");
+        for (Map.Entry<String, JsonNode> entry : result.entrySet()) {
+            JsonNode metric = entry.getValue();
+            String unit = metric.path("scoreUnit").asText();
+            double score = metric.path("score").asDouble();
+            JsonNode base = baseline.get(entry.getKey());
+            if (base == null) {
+                System.out.printf("%-60s %14s %14.3f %9s  %s%n", entry.getKey(), "-", score, "new", unit);
+                continue;
+            }
+            double baseScore = base.path("score").asDouble();
+            double change = 100 * (score - baseScore) / baseScore;
+            boolean regressed = change > threshold;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-60s %14.3f %14.3f %+8.1f%%  %s%s%n", entry.getKey(), baseScore, score, change, unit,
+                    regressed ? "  REGRESSION" : "");
+        }
+
+        if (regressions > 0) {
+            System.out.println(regressions + " benchmark(s) slower than the baseline by more than " + threshold + "%");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * @return Primary metric of every benchmark in the file, keyed by short benchmark name and parameters
+     */
+    private static Map<String, JsonNode> read(Path file) throws IOException {
+        Map<String, JsonNode> metrics = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+            String benchmark = run.path("benchmark").asText();
+            StringBuilder key = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1));
+            Iterator<Map.Entry<String, JsonNode>> params = run.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            metrics.put(key.toString(), run.path("primaryMetric"));
+        }
+        return metrics;
+    }
+}
@@ -0,0 +1,43 @@
+package eldenring.poc.catalog;
+
+import eldenring.poc.config.ApiConfig;
+import eldenring.poc.models.AmmoBase;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Prints the retained heap per item of a category stored as a list of models and as a {@link ColumnarCatalog}.
+ * Names repeat the way wiki names do ("Rotten ..." / "... Arrow"), and image URLs share the wiki file directory.
+ * Run with: mvn -Pbenchmark compile exec:exec -Dbenchmark.main=eldenring.poc.catalog.CatalogFootprintReport -Djmh.args=
+ */
+public final class CatalogFootprintReport {
+    private static final int[] SIZES = {100, 1_000, 10_000};
+    private static final String[] WORDS = {"Rotten", "Golden", "Bone", "Serpent", "Black-Key", "Lordsworn's"};
+    private static final String[] KINDS = {"Arrow", "Bolt", "Greatarrow", "Greatbolt", "Dart"};
+
+    private CatalogFootprintReport() { }
+
+    public static void main(String[] args) {
+        String imagePrefix = ApiConfig.getBaseUrl() + "/file/Elden-Ring/ammo/";
+        System.out.printf("%8s %16s %16s %10s%n", "items", "models B/item", "columnar B/item", "saved");
+        for (int size : SIZES) {
+            List<AmmoBase> models = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String name = WORDS[i % WORDS.length] + " " + KINDS[i % KINDS.length] + (i < 30 ? "" : " " + i);
+                String image = imagePrefix + name.toLowerCase().replace(' ', '_') + "_elden_ring_wiki_guide_200px.png";
+                models.add(new AmmoBase(name, image));
+            }
+            List<AmmoBase> copied = List.copyOf(models);
+            ColumnarCatalog<AmmoBase> columnar = ColumnarCatalog.of(models, AmmoBase::new);
+
+            double modelBytes = (double) GraphLayout.parseInstance(copied).totalSize() / size;
+            // The shared prefix dictionary is paid once for the whole catalog, so it is included
+            double columnarBytes = (double) GraphLayout.parseInstance(columnar, UrlPrefixDictionary.shared())
+                    .totalSize() / size;
+            System.out.printf("%8d %16.1f %16.1f %9.0f%%%n", size, modelBytes, columnarBytes,
+                    100 * (1 - columnarBytes / modelBytes));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package eldenring.poc.images;
+
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import javafx.stage.Screen;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Prints the decoded pixel bytes per card held by the {@link ImageCache}, with card images decoded at full
+ * resolution ({@code -Deldenring.images.decodeAtCardSize=false}) and at the card's size (the default).
+ * Images are generated locally at sizes typical of the wiki's item art, or read from a directory of PNG and
+ * JPEG files given as the argument, e.g. the image store. JavaFX decodes the images, so this needs a desktop
+ * session like the app itself.
+ * Run with: mvn -Pbenchmark compile exec:exec -Dbenchmark.main=eldenring.poc.images.CardImageFootprintReport -Djmh.args=
+ */
+public final class CardImageFootprintReport {
+    private static final int[] SOURCE_SIZES = {200, 512, 1024};
+    private static final int IMAGES_PER_SIZE = 20;
+    /** Size of the card image view, as CardGrid lays it out, in logical pixels. */
+    private static final double CARD_IMAGE_SIZE = 120;
+
+    private CardImageFootprintReport() { }
+
+    public static void main(String[] args) throws Exception {
+        CompletableFuture<Double> outputScale = new CompletableFuture<>();
+        Platform.startup(() -> outputScale.complete(Screen.getPrimary().getOutputScaleX()));
+        double cardSize = CARD_IMAGE_SIZE * outputScale.get(30, TimeUnit.SECONDS);
+
+        System.out.printf("%12s %8s %16s %16s %8s%n", "source", "images", "full B/card", "card-size B/card", "saved");
+        if (args.length > 0) {
+            Path directory = Path.of(args[0]);
+            report(directory.getFileName().toString(), imagesIn(directory), cardSize);
+        } else {
+            Path directory = Files.createTempDirectory("card-images");
+            for (int size : SOURCE_SIZES) {
+                report(size + "x" + size, writeImages(directory, size), cardSize);
+            }
+        }
+        Platform.exit();
+    }
+
+    private static void report(String source, List<String> urls, double cardSize) throws Exception {
+        if (urls.isEmpty()) {
+            System.out.printf("%12s %8d%n", source, 0);
+            return;
+        }
+        double fullBytes = decodedBytesPerCard(urls, 0);
+        double cardBytes = decodedBytesPerCard(urls, cardSize);
+        System.out.printf("%12s %8d %16.0f %16.0f %7.0f%%%n", source, urls.size(), fullBytes, cardBytes,
+                100 * (1 - cardBytes / fullBytes));
+    }
+
+    /**
+     * Loads every image through a fresh cache, the way CardGrid requests card images.
+     *
+     * @param size Requested width and height, 0 for full resolution
+     */
+    private static double decodedBytesPerCard(List<String> urls, double size) throws Exception {
+        ImageCache cache = new ImageCache(Long.MAX_VALUE, null);
+        List<Image> images = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            images.add(cache.get(url, size, size));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        for (Image image : images) {
+            while (image.getProgress() < 1.0) {
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("Images did not finish loading");
+                }
+                Thread.sleep(5);
+            }
+            if (image.isError()) {
+                throw new IllegalStateException("Failed to decode " + image.getUrl(), image.getException());
+            }
+        }
+        // Finished images are re-weighed on the JavaFX thread; wait for it to get past them
+        CompletableFuture<Void> settled = new CompletableFuture<>();
+        Platform.runLater(() -> settled.complete(null));
+        settled.get(30, TimeUnit.SECONDS);
+        cache.cleanUp();
+        return (double) cache.getDecodedBytes() / urls.size();
+    }
+
+    private static List<String> imagesIn(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> file.toString().matches("(?i).*\\.(png|jpe?g)$"))
+                    .map(file -> file.toUri().toString())
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static List<String> writeImages(Path directory, int size) throws IOException {
+        List<String> urls = new ArrayList<>(IMAGES_PER_SIZE);
+        for (int i = 0; i < IMAGES_PER_SIZE; i++) {
+            BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D graphics = image.createGraphics();
+            graphics.setPaint(new GradientPaint(0, 0, new Color(i * 12, 80, 160), size, size, Color.BLACK));
+            graphics.fillOval(0, 0, size, size);
+            graphics.dispose();
+            Path file = directory.resolve("item_" + size + "_" + i + ".png");
+            ImageIO.write(image, "png", file.toFile());
+            urls.add(file.toUri().toString());
+        }
+        return urls;
+    }
+}
@@ -0,0 +1,70 @@
+package eldenring.poc.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-query latency of {@link FuzzyNameMatcher} over catalogs of wiki-like names, for queries as typed:
+ * partial words, misspellings and multi-word queries.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FuzzyNameMatcherBenchmark {
+    private static final String[] PREFIXES = {
+            "Ash of War:", "Marika's", "Radagon's", "Godrick's", "Rennala's", "Malenia's", "Ancient", "Golden",
+            "Crimson", "Cerulean", "Rotten", "Black Knife", "Bloodhound's", "Frozen", "Sacred", "Lordsworn's"
+    };
+    private static final String[] NOUNS = {
+            "Soreseal", "Claw", "Greatsword", "Talisman", "Insignia", "Amber Medallion", "Tear", "Seedbed Curse",
+            "Flask", "Lion", "Greatbow", "Crossbow", "Incantation", "Sorcery", "Spirit Ashes", "Halberd",
+            "Scythe", "Katana", "Shield", "Helm", "Gauntlets", "Greaves", "Armor", "Cookbook"
+    };
+    private static final String[] QUERIES = {
+            "soresel", "lions cla", "marikas sore", "greatsord", "bloodhound fang", "crimsn amber", "r", "radag",
+            "seedbed curs", "black knfe"
+    };
+
+    @Param({"1000", "10000", "100000"})
+    public int names;
+
+    private FuzzyNameMatcher matcher;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void buildCatalog() {
+        Random random = new Random(42);
+        List<String> catalog = new ArrayList<>(names);
+        for (int i = 0; i < names; i++) {
+            String name = PREFIXES[random.nextInt(PREFIXES.length)] + " " + NOUNS[random.nextInt(NOUNS.length)];
+            // Numbered variants keep the vocabulary growing with the catalog, as distinct wiki names do
+            catalog.add(i % 4 == 0 ? name : name + " " + Integer.toString(i, 36));
+        }
+        matcher = FuzzyNameMatcher.build(catalog);
+    }
+
+    @Benchmark
+    public List<FuzzyNameMatcher.Candidate> matchQuery() {
+        String query = QUERIES[next];
+        next = (next + 1) % QUERIES.length;
+        return matcher.match(query, 50);
+    }
+}
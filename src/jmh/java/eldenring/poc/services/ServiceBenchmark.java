@@ -0,0 +1,153 @@
+package eldenring.poc.services;
+
+import eldenring.poc.config.ApiConfig;
+import eldenring.poc.models.AmmoBase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Data-layer hot paths of {@link BaseService} over synthetic categories: storing a scraped category,
+ * page requests that hit the cache and that miss it, page slicing, and model construction.
+ * The scrape is replaced by a prebuilt list, so only the service's own work is measured. Snapshots are
+ * disabled and service logging is raised to WARNING, as every page request otherwise logs a line.
+ * Baselines of this benchmark are kept in src/jmh/baselines (see the README).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Deldenring.snapshot.enabled=false")
+@State(Scope.Benchmark)
+public class ServiceBenchmark {
+    private static final String[] WORDS = {"Rotten", "Golden", "Bone", "Serpent", "Black-Key", "Lordsworn's",
+            "Radahn's", "Stormwing", "Haligtree", "Spiritflame"};
+    private static final String[] KINDS = {"Arrow", "Bolt", "Greatarrow", "Greatbolt", "Dart"};
+    private static final int PAGE_SIZE = BaseService.DEFAULT_PAGE_SIZE;
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int items;
+
+    private List<AmmoBase> scraped;
+    private String[] names;
+    private String[] images;
+    private SyntheticService service;
+    private List<AmmoBase> stored;
+    private int pages;
+    private int nextPage;
+
+    @Setup(Level.Trial)
+    public void buildCategory() {
+        Logger.getLogger("eldenring.poc").setLevel(java.util.logging.Level.WARNING);
+
+        String imagePrefix = ApiConfig.getSiteUrl() + "/file/Elden-Ring/ammo/";
+        names = new String[items];
+        images = new String[items];
+        scraped = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            names[i] = WORDS[i % WORDS.length] + " " + KINDS[i % KINDS.length] + (i < 50 ? "" : " " + i);
+            images[i] = imagePrefix + names[i].toLowerCase().replace(' ', '_') + "_elden_ring_wiki_guide_200px.png";
+            scraped.add(new AmmoBase(names[i], images[i]));
+        }
+
+        String category = "benchmark-" + items;
+        System.setProperty("eldenring.cache." + category + ".maxItems", Integer.toString(items));
+        service = new SyntheticService(category, scraped);
+        stored = service.cacheCategory(scraped);
+        pages = (items + PAGE_SIZE - 1) / PAGE_SIZE;
+    }
+
+    /**
+     * Stores a freshly scraped category: columnar encoding, cache insert and search indexing.
+     */
+    @Benchmark
+    public List<AmmoBase> cacheCategory() {
+        return service.cacheCategory(scraped);
+    }
+
+    /**
+     * A page request served from the cache, walking every page of the category.
+     */
+    @Benchmark
+    public List<AmmoBase> fetchPageHit() {
+        return service.fetchPage(PAGE_SIZE, nextPage());
+    }
+
+    /**
+     * The first page request after the category was evicted, until the streamed load has also stored the
+     * category, so every invocation is a full miss rather than joining the previous one's load.
+     */
+    @Benchmark
+    public List<AmmoBase> fetchPageMiss() {
+        service.clearCache();
+        List<AmmoBase> page = service.fetchPage(PAGE_SIZE, 0);
+        while (service.isLoading()) {
+            Thread.yield();
+        }
+        return page;
+    }
+
+    /**
+     * The page view over the stored category, without materializing its models.
+     */
+    @Benchmark
+    public List<AmmoBase> slicePage() {
+        return BaseService.slicePage(stored, PAGE_SIZE, nextPage());
+    }
+
+    /**
+     * The page as handed to screens: its models materialized from the stored columns.
+     */
+    @Benchmark
+    public List<AmmoBase> slicePageCopy() {
+        return List.copyOf(BaseService.slicePage(stored, PAGE_SIZE, nextPage()));
+    }
+
+    /**
+     * Constructs a model for every item of the category, as scraping does.
+     */
+    @Benchmark
+    public void constructModels(Blackhole blackhole) {
+        for (int i = 0; i < items; i++) {
+            blackhole.consume(new AmmoBase(names[i], images[i]));
+        }
+    }
+
+    private int nextPage() {
+        int page = nextPage;
+        nextPage = page + 1 == pages ? 0 : page + 1;
+        return page;
+    }
+
+    /**
+     * Service whose scrape returns the prebuilt category immediately.
+     */
+    private static final class SyntheticService extends BaseService<AmmoBase> {
+        private final List<AmmoBase> category;
+
+        SyntheticService(String categoryKey, List<AmmoBase> category) {
+            super(Logger.getLogger(ServiceBenchmark.class.getName()), categoryKey, AmmoBase::new);
+            this.category = category;
+        }
+
+        @Override
+        protected List<AmmoBase> scrapeAll() {
+            return category;
+        }
+    }
+}
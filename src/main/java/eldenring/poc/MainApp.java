@@ -15,20 +15,30 @@ import javafx.scene.layout.BackgroundSize;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
+import eldenring.poc.config.ScraperConfig;
+import eldenring.poc.images.ImageCache;
 import eldenring.poc.navigation.AppNavigator;
 import eldenring.poc.navigation.ScreenFactory;
+import eldenring.poc.replay.PageReplay;
+import eldenring.poc.screens.BaseListScreen;
+import eldenring.poc.services.CatalogWarmup;
 
 import java.net.URL;
+import java.util.logging.Logger;
 import javafx.scene.Node;
 import javafx.geometry.Insets;
 
 public class MainApp extends Application {
+    private static final Logger LOGGER = Logger.getLogger(MainApp.class.getName());
 
     private AppNavigator navigator;
     private ScreenFactory screenFactory;
+    private CatalogWarmup warmup;
 
     @Override
     public void start(Stage primaryStage) {
+        PageReplay.install();
+
         BorderPane root = new BorderPane();
         root.setPrefSize(1000, 700);
 
@@ -68,8 +78,24 @@ public class MainApp extends Application {
         tabPane.getSelectionModel().selectedItemProperty().addListener((obs, oldTab, newTab) -> {
             if (newTab == null) return;
             String tabName = newTab.getText();
+            if (warmup != null) {
+                warmup.prioritize(tabName);
+            }
+            navigator.navigateTo(() -> screenFactory.getScreen(tabName, navigator));
+        });
+        // Search results open on the tab of their category, whichever screen they were found from
+        navigator.setSearchResultHandler(result -> {
+            String tabName = screenFactory.getTabName(result.getCategory());
+            if (tabName == null) return;
+            for (Tab tab : tabPane.getTabs()) {
+                if (tab.getText().equals(tabName)) {
+                    tabPane.getSelectionModel().select(tab);
+                }
+            }
             Node screen = screenFactory.getScreen(tabName, navigator);
-            navigator.setCenter(screen);
+            if (screen instanceof BaseListScreen) {
+                ((BaseListScreen<?>) screen).showItem(result.getItem());
+            }
         });
 
         Scene scene = new Scene(root);
@@ -102,9 +128,26 @@ public class MainApp extends Application {
                 }
             }
             tabPane.getSelectionModel().select(0);
+
+            if (ScraperConfig.isWarmupEnabled()) {
+                warmup = CatalogWarmup.forAllCategories(ScraperConfig.getWarmupConcurrency());
+                warmup.start(tabPane.getSelectionModel().getSelectedItem().getText());
+            }
         });
     }
 
+    @Override
+    public void stop() {
+        if (warmup != null) {
+            warmup.shutdown();
+        }
+        if (screenFactory != null) {
+            screenFactory.disposeAll();
+        }
+        PageReplay.shutdown();
+        LOGGER.info("Image cache: " + ImageCache.shared().describeStats());
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
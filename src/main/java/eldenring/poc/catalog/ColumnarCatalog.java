@@ -0,0 +1,120 @@
+package eldenring.poc.catalog;
+
+import eldenring.poc.models.BaseModel;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.BiFunction;
+
+/**
+ * Immutable, column-oriented storage for the items of a category, addressed by dense int ids
+ * (the item's position in the list).
+ * Instead of one model object per item, the catalog keeps parallel arrays: the display names,
+ * an id into the shared {@link UrlPrefixDictionary} for the image URL prefix, and the URL remainders
+ * packed into a single UTF-8 byte array, so a cached category costs a few arrays rather than thousands
+ * of objects. Models are not retained: {@link #get(int)} builds a new one (and its image URL string) on
+ * every call, so callers materialize a page once and keep those models rather than calling it repeatedly.
+ * Callers that only need a column can read it by id without materializing anything.
+ *
+ * @param <T> The model type of the category
+ */
+public final class ColumnarCatalog<T extends BaseModel> extends AbstractList<T> implements RandomAccess {
+    private static final int NO_URL = -1;
+
+    private final String[] names;
+    private final int[] urlPrefixIds;
+    private final int[] urlSuffixOffsets;
+    private final byte[] urlSuffixBytes;
+    private final BiFunction<String, String, T> modelFactory;
+
+    private ColumnarCatalog(String[] names, int[] urlPrefixIds, int[] urlSuffixOffsets, byte[] urlSuffixBytes,
+                            BiFunction<String, String, T> modelFactory) {
+        this.names = names;
+        this.urlPrefixIds = urlPrefixIds;
+        this.urlSuffixOffsets = urlSuffixOffsets;
+        this.urlSuffixBytes = urlSuffixBytes;
+        this.modelFactory = modelFactory;
+    }
+
+    /**
+     * Copies the display names and image URLs of the items into columns. The items themselves are not retained.
+     *
+     * @param items Every item of the category
+     * @param modelFactory Creates a model from its display name and image URL
+     * @return The catalog
+     */
+    public static <T extends BaseModel> ColumnarCatalog<T> of(List<? extends T> items,
+                                                              BiFunction<String, String, T> modelFactory) {
+        int size = items.size();
+        String[] names = new String[size];
+        int[] urlPrefixIds = new int[size];
+        int[] urlSuffixOffsets = new int[size + 1];
+        byte[][] suffixes = new byte[size][];
+        UrlPrefixDictionary dictionary = UrlPrefixDictionary.shared();
+
+        int totalSuffixBytes = 0;
+        for (int i = 0; i < size; i++) {
+            T item = items.get(i);
+            String name = item.getDisplayName();
+            names[i] = name;
+
+            String url = item.getImageUrl();
+            if (url == null) {
+                urlPrefixIds[i] = NO_URL;
+                suffixes[i] = new byte[0];
+            } else {
+                int prefixLength = UrlPrefixDictionary.prefixLength(url);
+                urlPrefixIds[i] = dictionary.idOf(url.substring(0, prefixLength));
+                suffixes[i] = url.substring(prefixLength).getBytes(StandardCharsets.UTF_8);
+            }
+            totalSuffixBytes += suffixes[i].length;
+        }
+
+        byte[] urlSuffixBytes = new byte[totalSuffixBytes];
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(suffixes[i], 0, urlSuffixBytes, urlSuffixOffsets[i], suffixes[i].length);
+            urlSuffixOffsets[i + 1] = urlSuffixOffsets[i] + suffixes[i].length;
+        }
+        return new ColumnarCatalog<>(names, urlPrefixIds, urlSuffixOffsets, urlSuffixBytes, modelFactory);
+    }
+
+    /**
+     * Materializes the model of an item.
+     *
+     * @param id Item id (0-based position)
+     * @return A new model holding the item's name and image URL
+     */
+    @Override
+    public T get(int id) {
+        return modelFactory.apply(getName(id), getImageUrl(id));
+    }
+
+    @Override
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * @param id Item id (0-based position)
+     * @return The display name of the item, without materializing its model
+     */
+    public String getName(int id) {
+        return names[id];
+    }
+
+    /**
+     * @param id Item id (0-based position)
+     * @return The image URL of the item, or null if it has none
+     */
+    public String getImageUrl(int id) {
+        int prefixId = urlPrefixIds[id];
+        if (prefixId == NO_URL) {
+            return null;
+        }
+        int from = urlSuffixOffsets[id];
+        String suffix = new String(urlSuffixBytes, from, urlSuffixOffsets[id + 1] - from, StandardCharsets.UTF_8);
+        return UrlPrefixDictionary.shared().prefix(prefixId).concat(suffix);
+    }
+}
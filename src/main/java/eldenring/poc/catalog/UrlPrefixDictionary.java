@@ -0,0 +1,68 @@
+package eldenring.poc.catalog;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dictionary of image URL prefixes shared by every category.
+ * Wiki image URLs differ only after their last '/' (they all start with the wiki host and the same
+ * file directory), so each distinct prefix is stored once here and catalogs keep a small id instead.
+ * Ids are dense, never reused, and stable for the lifetime of the JVM. Lookups by id read a
+ * copy-on-write array without locking; only adding a new prefix synchronizes.
+ */
+public final class UrlPrefixDictionary {
+    private static final UrlPrefixDictionary SHARED = new UrlPrefixDictionary();
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private volatile String[] prefixes = new String[0];
+
+    /**
+     * @return The dictionary used by every catalog
+     */
+    public static UrlPrefixDictionary shared() {
+        return SHARED;
+    }
+
+    /**
+     * @return Length of the prefix of the URL kept in the dictionary: everything up to and including the last '/'
+     */
+    static int prefixLength(String url) {
+        return url.lastIndexOf('/') + 1;
+    }
+
+    /**
+     * @param prefix URL prefix, e.g. "https://eldenring.wiki.fextralife.com/file/Elden-Ring/"
+     * @return The id of the prefix, added on first use
+     */
+    public int idOf(String prefix) {
+        Integer id = ids.get(prefix);
+        if (id != null) {
+            return id;
+        }
+        synchronized (lock) {
+            return ids.computeIfAbsent(prefix, p -> {
+                String[] grown = Arrays.copyOf(prefixes, prefixes.length + 1);
+                grown[grown.length - 1] = p;
+                prefixes = grown;
+                return grown.length - 1;
+            });
+        }
+    }
+
+    /**
+     * @param id Id returned by {@link #idOf(String)}
+     * @return The prefix
+     */
+    public String prefix(int id) {
+        return prefixes[id];
+    }
+
+    /**
+     * @return Number of distinct prefixes
+     */
+    public int size() {
+        return prefixes.length;
+    }
+}
@@ -2,13 +2,38 @@ package eldenring.poc.config;
 
 /**
  * Centralized API configuration.
+ * The wiki base URL can be overridden with -Deldenring.api.baseUrl=..., or at runtime (e.g. by the replay
+ * server), so scrapers must resolve page URLs through {@link #getBaseUrl()} each time they scrape.
  */
 public final class ApiConfig {
     private static final String BASE_URL = "https://eldenring.wiki.fextralife.com";
 
+    private static volatile String baseUrlOverride;
+
     private ApiConfig() { }
 
     public static String getBaseUrl() {
-        return BASE_URL;
+        String override = baseUrlOverride;
+        if (override != null) {
+            return override;
+        }
+        return getSiteUrl();
+    }
+
+    /**
+     * @return The configured wiki URL, ignoring any runtime override. Image URLs are built from this one
+     *         so replayed pages produce the same items as live ones.
+     */
+    public static String getSiteUrl() {
+        return System.getProperty("eldenring.api.baseUrl", BASE_URL);
+    }
+
+    /**
+     * Points every later scrape at another host serving the wiki pages.
+     *
+     * @param baseUrl Base URL without a trailing slash, or null to restore the configured one
+     */
+    public static void overrideBaseUrl(String baseUrl) {
+        baseUrlOverride = baseUrl;
     }
 }
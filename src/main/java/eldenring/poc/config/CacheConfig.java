@@ -0,0 +1,110 @@
+package eldenring.poc.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Centralized cache configuration.
+ * Bounds and refresh intervals can be overridden per category with JVM system properties,
+ * e.g. -Deldenring.cache.armor.maxItems=5000 or -Deldenring.cache.armor.refreshMinutes=60.
+ */
+public final class CacheConfig {
+    private static final long DEFAULT_MAX_ITEMS = 10_000;
+    private static final long DEFAULT_REFRESH_MINUTES = 30;
+    private static final long DEFAULT_REFRESH_BACKOFF_MINUTES = 1;
+    private static final long DEFAULT_REFRESH_BACKOFF_MAX_MINUTES = 60;
+    private static final long DEFAULT_IMAGE_CACHE_MEGABYTES = 128;
+    private static final long DEFAULT_IMAGE_STORE_MEGABYTES = 256;
+
+    private CacheConfig() { }
+
+    /**
+     * @param category Category cache key (e.g. "ammo")
+     * @return Maximum number of items the category cache may hold
+     */
+    public static long getMaxItems(String category) {
+        return Long.getLong("eldenring.cache." + category + ".maxItems",
+                Long.getLong("eldenring.cache.maxItems", DEFAULT_MAX_ITEMS));
+    }
+
+    /**
+     * @param category Category cache key (e.g. "ammo")
+     * @return Age after which a cached category is re-scraped in the background while still being served
+     */
+    public static Duration getRefreshAfter(String category) {
+        return Duration.ofMinutes(Long.getLong("eldenring.cache." + category + ".refreshMinutes",
+                Long.getLong("eldenring.cache.refreshMinutes", DEFAULT_REFRESH_MINUTES)));
+    }
+
+    /**
+     * @return Wait before retrying a failed background refresh; doubled after each further failure
+     */
+    public static Duration getRefreshBackoff() {
+        return Duration.ofMinutes(Long.getLong("eldenring.cache.refreshBackoffMinutes", DEFAULT_REFRESH_BACKOFF_MINUTES));
+    }
+
+    /**
+     * @return Longest wait between retries of a failing background refresh
+     */
+    public static Duration getRefreshBackoffMax() {
+        return Duration.ofMinutes(Long.getLong("eldenring.cache.refreshBackoffMaxMinutes",
+                DEFAULT_REFRESH_BACKOFF_MAX_MINUTES));
+    }
+
+    /**
+     * @return Whether scraped categories are persisted to disk and restored at startup
+     */
+    public static boolean isSnapshotEnabled() {
+        return Boolean.parseBoolean(System.getProperty("eldenring.snapshot.enabled", "true"));
+    }
+
+    /**
+     * @return Directory holding the on-disk catalog snapshots
+     */
+    public static Path getSnapshotDirectory() {
+        String dir = System.getProperty("eldenring.snapshot.dir");
+        if (dir != null && !dir.isBlank()) {
+            return Path.of(dir);
+        }
+        return Path.of(System.getProperty("user.home"), ".elden-ring-catalog", "snapshots");
+    }
+
+    /**
+     * @return Maximum decoded pixel bytes held by the shared image cache
+     */
+    public static long getImageCacheMaxBytes() {
+        return Long.getLong("eldenring.cache.images.maxMegabytes", DEFAULT_IMAGE_CACHE_MEGABYTES) * 1024 * 1024;
+    }
+
+    /**
+     * @return Whether downloaded images are kept on disk and served from there on later loads
+     */
+    public static boolean isImageStoreEnabled() {
+        return Boolean.parseBoolean(System.getProperty("eldenring.images.store.enabled", "true"));
+    }
+
+    /**
+     * @return Directory holding the content-addressed image store
+     */
+    public static Path getImageStoreDirectory() {
+        String dir = System.getProperty("eldenring.images.dir");
+        if (dir != null && !dir.isBlank()) {
+            return Path.of(dir);
+        }
+        return Path.of(System.getProperty("user.home"), ".elden-ring-catalog", "images");
+    }
+
+    /**
+     * @return Maximum bytes of image files kept on disk before the least recently used are evicted
+     */
+    public static long getImageStoreMaxBytes() {
+        return Long.getLong("eldenring.images.maxMegabytes", DEFAULT_IMAGE_STORE_MEGABYTES) * 1024 * 1024;
+    }
+
+    /**
+     * @return Whether card images are decoded at the card's size instead of their full resolution
+     */
+    public static boolean isDecodeAtCardSize() {
+        return Boolean.parseBoolean(System.getProperty("eldenring.images.decodeAtCardSize", "true"));
+    }
+}
@@ -0,0 +1,107 @@
+package eldenring.poc.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Centralized scraper configuration.
+ * Every value can be overridden with a JVM system property (e.g. -Deldenring.scraper.pool.max=4).
+ */
+public final class ScraperConfig {
+    private static final int DEFAULT_POOL_MIN_SIZE = 1;
+    private static final int DEFAULT_POOL_MAX_SIZE = 3;
+    private static final long DEFAULT_POOL_IDLE_TIMEOUT_SECONDS = 120;
+    private static final long DEFAULT_POOL_BORROW_TIMEOUT_SECONDS = 60;
+    private static final long DEFAULT_READINESS_TIMEOUT_MILLIS = 10_000;
+
+    private ScraperConfig() { }
+
+    /**
+     * @return Number of idle browser sessions the pool keeps alive when evicting
+     */
+    public static int getPoolMinSize() {
+        return Math.max(0, Integer.getInteger("eldenring.scraper.pool.min", DEFAULT_POOL_MIN_SIZE));
+    }
+
+    /**
+     * @return Maximum number of browser sessions that may exist at the same time
+     */
+    public static int getPoolMaxSize() {
+        return Math.max(1, Integer.getInteger("eldenring.scraper.pool.max", DEFAULT_POOL_MAX_SIZE));
+    }
+
+    /**
+     * @return How long a session may sit idle before it becomes eligible for eviction
+     */
+    public static Duration getPoolIdleTimeout() {
+        return Duration.ofSeconds(Long.getLong("eldenring.scraper.pool.idleSeconds", DEFAULT_POOL_IDLE_TIMEOUT_SECONDS));
+    }
+
+    /**
+     * @return How long a scraper waits for a free session before giving up
+     */
+    public static Duration getPoolBorrowTimeout() {
+        return Duration.ofSeconds(Long.getLong("eldenring.scraper.pool.borrowSeconds", DEFAULT_POOL_BORROW_TIMEOUT_SECONDS));
+    }
+
+    /**
+     * @return Maximum time a scraper polls for its page to become ready
+     */
+    public static Duration getReadinessTimeout() {
+        return Duration.ofMillis(Long.getLong("eldenring.scraper.readinessMillis", DEFAULT_READINESS_TIMEOUT_MILLIS));
+    }
+
+    /**
+     * @return Whether pages with server-rendered galleries are scraped without a browser
+     */
+    public static boolean isStaticHtmlEnabled() {
+        return Boolean.parseBoolean(System.getProperty("eldenring.scraper.static.enabled", "true"));
+    }
+
+    /**
+     * @return Whether every category is scraped in the background at startup
+     */
+    public static boolean isWarmupEnabled() {
+        return Boolean.parseBoolean(System.getProperty("eldenring.warmup.enabled", "true"));
+    }
+
+    /**
+     * @return Maximum number of categories scraped at the same time during warmup
+     */
+    public static int getWarmupConcurrency() {
+        return Math.max(1, Integer.getInteger("eldenring.warmup.concurrency", getPoolMaxSize()));
+    }
+
+    /**
+     * @return Threads of the shared background task scheduler (page loads, prefetch and warmup)
+     */
+    public static int getTaskThreads() {
+        return Math.max(1, Integer.getInteger("eldenring.tasks.threads", getPoolMaxSize() + 2));
+    }
+
+    /**
+     * @return Page record/replay mode name: "off", "record" (save every scraped page) or "replay"
+     *         (serve the saved pages from a local server instead of the wiki)
+     */
+    public static String getReplayMode() {
+        return System.getProperty("eldenring.replay.mode", "off");
+    }
+
+    /**
+     * @return Directory holding recorded wiki pages
+     */
+    public static Path getReplayDirectory() {
+        String dir = System.getProperty("eldenring.replay.dir");
+        if (dir != null && !dir.isBlank()) {
+            return Path.of(dir);
+        }
+        return Path.of(System.getProperty("user.home"), ".elden-ring-catalog", "recordings");
+    }
+
+    /**
+     * @return Port of the local replay server, 0 for any free port
+     */
+    public static int getReplayPort() {
+        return Integer.getInteger("eldenring.replay.port", 0);
+    }
+}
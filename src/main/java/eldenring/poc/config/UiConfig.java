@@ -0,0 +1,48 @@
+package eldenring.poc.config;
+
+/**
+ * Centralized list screen and search configuration.
+ * Every value can be overridden with a JVM system property (e.g. -Deldenring.ui.prefetchPages=4).
+ */
+public final class UiConfig {
+    private static final int DEFAULT_PREFETCH_PAGES = 2;
+    private static final int DEFAULT_RETAINED_SCREENS = 4;
+    private static final int DEFAULT_HISTORY_DEPTH = 20;
+
+    private UiConfig() { }
+
+    /**
+     * @return Whether list screens append pages while scrolling instead of showing Previous/Next buttons
+     */
+    public static boolean isInfiniteScrollEnabled() {
+        return Boolean.parseBoolean(System.getProperty("eldenring.ui.infiniteScroll", "true"));
+    }
+
+    /**
+     * @return Number of pages (and their images) loaded ahead of the last page shown
+     */
+    public static int getPrefetchPages() {
+        return Math.max(0, Integer.getInteger("eldenring.ui.prefetchPages", DEFAULT_PREFETCH_PAGES));
+    }
+
+    /**
+     * @return Number of recently used tab screens kept alive, with their loaded pages, for instant tab switches
+     */
+    public static int getRetainedScreens() {
+        return Math.max(1, Integer.getInteger("eldenring.ui.retainedScreens", DEFAULT_RETAINED_SCREENS));
+    }
+
+    /**
+     * @return Whether the search bar also lists misspelled matches when there are few exact ones
+     */
+    public static boolean isFuzzySearchEnabled() {
+        return Boolean.parseBoolean(System.getProperty("eldenring.search.fuzzy", "true"));
+    }
+
+    /**
+     * @return Maximum number of entries the Back button can return to
+     */
+    public static int getNavigationHistoryDepth() {
+        return Math.max(0, Integer.getInteger("eldenring.ui.historyDepth", DEFAULT_HISTORY_DEPTH));
+    }
+}
@@ -0,0 +1,225 @@
+package eldenring.poc.images;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import eldenring.poc.config.CacheConfig;
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Application-wide cache of decoded card and detail images, keyed by URL and requested size.
+ * Bounded by decoded pixel bytes (width x height x 4) rather than entry count, so a few large images
+ * cannot hold as much memory as hundreds of thumbnails. Images load in the background; an entry is
+ * re-weighed once its pixels are known, and dropped if loading fails so it is retried next time.
+ * When an {@link ImageStore} is configured, images already on disk are decoded from their local file,
+ * and {@link #load(String, double, double, Consumer)} downloads missing ones into the store first.
+ */
+public final class ImageCache {
+    private static final Logger LOGGER = Logger.getLogger(ImageCache.class.getName());
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private static final ImageCache SHARED = new ImageCache(CacheConfig.getImageCacheMaxBytes(),
+            CacheConfig.isImageStoreEnabled() ? ImageStore.shared() : null);
+
+    private final Cache<ImageKey, Image> cache;
+    private final ImageStore store;
+
+    /**
+     * @param maxBytes Maximum decoded pixel bytes to keep
+     * @param store On-disk store to serve and save images through, or null to always load from the URL
+     */
+    public ImageCache(long maxBytes, ImageStore store) {
+        this.store = store;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher(ImageCache::weigh)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @return The cache used by every screen
+     */
+    public static ImageCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the image at its natural size, loading it in the background on a miss.
+     *
+     * @param url Remote or resource URL of the image
+     * @return Cached or newly loading image, or null if the URL is empty
+     */
+    public Image get(String url) {
+        return get(url, 0, 0);
+    }
+
+    /**
+     * Returns the image scaled to fit the requested size, loading it in the background on a miss.
+     *
+     * @param url Remote or resource URL of the image
+     * @param requestedWidth Width to scale to, 0 for natural width
+     * @param requestedHeight Height to scale to, 0 for natural height
+     * @return Cached or newly loading image, or null if the URL is empty
+     */
+    public Image get(String url, double requestedWidth, double requestedHeight) {
+        if (url == null || url.isEmpty()) {
+            return null;
+        }
+        ImageKey key = new ImageKey(url, requestedWidth, requestedHeight);
+        Image[] loaded = new Image[1];
+        Image image = cache.get(key, k -> loaded[0] = load(k));
+        // Settling updates the entry, which the mapping function must not do, so it waits until the entry is stored
+        if (image == loaded[0] && image.getProgress() >= 1.0) {
+            settle(key, image);
+        }
+        return image;
+    }
+
+    /**
+     * Delivers the image scaled to fit the requested size. Images in memory or on disk are delivered
+     * immediately on the calling thread; otherwise the image is first downloaded into the store and
+     * delivered on the JavaFX application thread. If the download fails the image is loaded from its URL.
+     *
+     * @param url Remote or resource URL of the image
+     * @param requestedWidth Width to scale to, 0 for natural width
+     * @param requestedHeight Height to scale to, 0 for natural height
+     * @param onReady Receives the image (not called if the URL is empty)
+     */
+    public void load(String url, double requestedWidth, double requestedHeight, Consumer<Image> onReady) {
+        if (url == null || url.isEmpty()) {
+            return;
+        }
+        ImageKey key = new ImageKey(url, requestedWidth, requestedHeight);
+        // Only checks the store: the image is marked as used once, when it is decoded from its file
+        if (store == null || !isRemote(url) || cache.getIfPresent(key) != null || store.contains(url)) {
+            onReady.accept(get(url, requestedWidth, requestedHeight));
+            return;
+        }
+
+        store.fetch(url).whenComplete((path, error) -> {
+            if (error != null) {
+                LOGGER.fine("Could not store image " + url + ": " + error);
+            }
+            Platform.runLater(() -> onReady.accept(get(url, requestedWidth, requestedHeight)));
+        });
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return Decoded pixel bytes currently held, as weighed by the cache
+     */
+    public long getDecodedBytes() {
+        return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    /**
+     * @return One-line summary of size, memory per image and hit rate, for logging
+     */
+    public String describeStats() {
+        CacheStats stats = stats();
+        long images = cache.estimatedSize();
+        long bytes = getDecodedBytes();
+        return String.format("images=%d, decodedBytes=%d, bytesPerImage=%d, hits=%d, misses=%d, hitRate=%.1f%%, evictions=%d",
+                images, bytes, images == 0 ? 0 : bytes / images,
+                stats.hitCount(), stats.missCount(), stats.hitRate() * 100, stats.evictionCount());
+    }
+
+    /**
+     * Runs pending maintenance now, so {@link #getDecodedBytes()} includes every image already re-weighed.
+     */
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Starts loading the image. Runs inside the cache's mapping function, so an image that is already complete
+     * is settled by the caller once it is stored; one still loading settles when its progress reaches 1.
+     */
+    private Image load(ImageKey key) {
+        Image image = new Image(sourceFor(key.url), key.width, key.height, true, true, true);
+        image.progressProperty().addListener((obs, oldProgress, progress) -> {
+            if (progress.doubleValue() >= 1.0) {
+                settle(key, image);
+            }
+        });
+        return image;
+    }
+
+    /**
+     * @return Local file URL if the image is in the store, the original URL otherwise
+     */
+    private String sourceFor(String url) {
+        if (store == null || !isRemote(url)) {
+            return url;
+        }
+        Optional<Path> stored = store.lookup(url);
+        return stored.map(path -> path.toUri().toString()).orElse(url);
+    }
+
+    private static boolean isRemote(String url) {
+        return url.startsWith("http://") || url.startsWith("https://");
+    }
+
+    /**
+     * Re-weighs a finished image now that its pixel size is known, or evicts it if it failed to load.
+     */
+    private void settle(ImageKey key, Image image) {
+        if (image.isError()) {
+            LOGGER.fine("Failed to load image " + key.url + " - not caching it");
+            cache.asMap().remove(key, image);
+        } else {
+            cache.asMap().replace(key, image, image);
+        }
+    }
+
+    private static int weigh(ImageKey key, Image image) {
+        double width = image.getWidth() > 0 ? image.getWidth() : key.width;
+        double height = image.getHeight() > 0 ? image.getHeight() : key.height;
+        long bytes = (long) (width * height) * BYTES_PER_PIXEL;
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, bytes));
+    }
+
+    private static final class ImageKey {
+        private final String url;
+        private final double width;
+        private final double height;
+
+        private ImageKey(String url, double width, double height) {
+            this.url = url;
+            this.width = Math.max(0, width);
+            this.height = Math.max(0, height);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ImageKey)) {
+                return false;
+            }
+            ImageKey other = (ImageKey) o;
+            return url.equals(other.url) && width == other.width && height == other.height;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(url, width, height);
+        }
+    }
+}
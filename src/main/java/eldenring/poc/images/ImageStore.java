@@ -0,0 +1,380 @@
+package eldenring.poc.images;
+
+import eldenring.poc.config.CacheConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Content-addressed on-disk store for downloaded images.
+ * Each image is saved once under the SHA-256 of its bytes in {@code blobs/}, and {@code index.properties}
+ * maps image URLs to those hashes, so URLs serving identical bytes share a file. Later loads are served
+ * from disk without touching the network. When the blobs exceed the configured size, the least recently
+ * used ones are deleted. Hits only record their time in memory; a background flush a few seconds later
+ * stamps it on the blobs' modification times (which carry recency across launches) and rewrites the index
+ * if downloads changed it, so neither happens per image nor on the thread looking images up.
+ */
+public final class ImageStore {
+    private static final Logger LOGGER = Logger.getLogger(ImageStore.class.getName());
+    private static final String INDEX_FILE = "index.properties";
+    private static final String BLOB_DIRECTORY = "blobs";
+    private static final double EVICTION_TARGET_RATIO = 0.9;
+    private static final int DOWNLOAD_THREADS = 4;
+    private static final long FLUSH_DELAY_MILLIS = 2_000;
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+    private static final String USER_AGENT =
+            "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/119.0 Safari/537.36";
+
+    private static final ImageStore SHARED =
+            new ImageStore(CacheConfig.getImageStoreDirectory(), CacheConfig.getImageStoreMaxBytes());
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(SHARED::flush, "image-store-flush"));
+    }
+
+    private final Path directory;
+    private final Path blobDirectory;
+    private final long maxBytes;
+    private final ConcurrentMap<String, String> hashesByUrl = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompletableFuture<Path>> downloads = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> lastUsedByHash = new ConcurrentHashMap<>();
+    private final Set<String> touchedHashes = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean indexDirty = new AtomicBoolean();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicLong storedBytes = new AtomicLong();
+    private final ExecutorService downloader;
+    private final ScheduledExecutorService flusher;
+
+    public ImageStore(Path directory, long maxBytes) {
+        this.directory = directory;
+        this.blobDirectory = directory.resolve(BLOB_DIRECTORY);
+        this.maxBytes = maxBytes;
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.downloader = Executors.newFixedThreadPool(DOWNLOAD_THREADS, r -> {
+            Thread t = new Thread(r, "image-store-" + threadCounter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "image-store-flush");
+            t.setDaemon(true);
+            return t;
+        });
+        loadIndex();
+    }
+
+    /**
+     * @return The store used by the shared image cache
+     */
+    public static ImageStore shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the stored file for an image URL and marks it as used, without any file system or network access.
+     *
+     * @param url Image URL
+     * @return Path of the stored image, or empty if it has not been downloaded yet
+     */
+    public Optional<Path> lookup(String url) {
+        String hash = hashesByUrl.get(url);
+        if (hash == null) {
+            return Optional.empty();
+        }
+        touch(hash);
+        return Optional.of(blobFor(hash));
+    }
+
+    /**
+     * @param url Image URL
+     * @return Whether the image is stored, without marking it as used
+     */
+    public boolean contains(String url) {
+        return hashesByUrl.containsKey(url);
+    }
+
+    /**
+     * Stamps the recorded use times on the blobs and writes the index if it changed.
+     * Runs in the background shortly after a hit or download, and at shutdown.
+     */
+    public synchronized void flush() {
+        for (Iterator<String> pending = touchedHashes.iterator(); pending.hasNext(); ) {
+            String hash = pending.next();
+            pending.remove();
+            Long lastUsed = lastUsedByHash.get(hash);
+            if (lastUsed == null) {
+                continue;
+            }
+            try {
+                Files.setLastModifiedTime(blobFor(hash), FileTime.fromMillis(lastUsed));
+            } catch (NoSuchFileException e) {
+                // Deleted behind our back
+                lastUsedByHash.remove(hash);
+                if (hashesByUrl.values().removeIf(hash::equals)) {
+                    indexDirty.set(true);
+                }
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Could not record use of image blob " + hash, e);
+            }
+        }
+
+        if (indexDirty.getAndSet(false)) {
+            try {
+                saveIndex();
+            } catch (IOException e) {
+                indexDirty.set(true);
+                LOGGER.log(Level.WARNING, "Failed to write image store index in " + directory, e);
+            }
+        }
+    }
+
+    /**
+     * Returns the stored file for an image URL, downloading and storing it first if needed.
+     * Concurrent requests for the same URL share a single download.
+     *
+     * @param url Image URL
+     * @return Future completed with the stored file, or exceptionally if the download failed
+     */
+    public CompletableFuture<Path> fetch(String url) {
+        Optional<Path> stored = lookup(url);
+        if (stored.isPresent()) {
+            return CompletableFuture.completedFuture(stored.get());
+        }
+
+        CompletableFuture<Path> download = new CompletableFuture<>();
+        CompletableFuture<Path> inFlight = downloads.putIfAbsent(url, download);
+        if (inFlight != null) {
+            return inFlight;
+        }
+
+        downloader.execute(() -> {
+            try {
+                download.complete(downloadAndStore(url));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                download.completeExceptionally(e);
+            } catch (Exception e) {
+                download.completeExceptionally(e);
+            } finally {
+                downloads.remove(url, download);
+            }
+        });
+        return download;
+    }
+
+    /**
+     * @return Bytes of image files currently stored
+     */
+    public long getStoredBytes() {
+        return storedBytes.get();
+    }
+
+    /**
+     * @return Number of URLs that can be served from disk
+     */
+    public int getIndexedUrlCount() {
+        return hashesByUrl.size();
+    }
+
+    private Path downloadAndStore(String url) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .header("User-Agent", USER_AGENT)
+                .GET()
+                .build();
+        HttpResponse<byte[]> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200 || response.body().length == 0) {
+            throw new IOException("HTTP " + response.statusCode() + " for " + url);
+        }
+
+        byte[] bytes = response.body();
+        String hash = sha256(bytes);
+        Path blob = blobFor(hash);
+        if (!Files.exists(blob)) {
+            Files.createDirectories(blobDirectory);
+            Path temp = Files.createTempFile(blobDirectory, hash, ".tmp");
+            try {
+                Files.write(temp, bytes);
+                Files.move(temp, blob, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                storedBytes.addAndGet(bytes.length);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+
+        hashesByUrl.put(url, hash);
+        indexDirty.set(true);
+        touch(hash);
+        evictIfNeeded();
+        LOGGER.fine("Stored " + bytes.length + " bytes for " + url + " as " + hash);
+        return blob;
+    }
+
+    /**
+     * Deletes the least recently used blobs until the store is back under its size cap,
+     * then forgets the URLs that pointed to them.
+     */
+    private synchronized void evictIfNeeded() throws IOException {
+        if (storedBytes.get() <= maxBytes) {
+            return;
+        }
+
+        List<Path> blobs = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(blobDirectory, p -> !p.toString().endsWith(".tmp"))) {
+            stream.forEach(blobs::add);
+        }
+        blobs.sort(Comparator.comparingLong(this::lastUsedMillis));
+
+        long target = (long) (maxBytes * EVICTION_TARGET_RATIO);
+        Set<String> evicted = new HashSet<>();
+        for (Path blob : blobs) {
+            if (storedBytes.get() <= target) {
+                break;
+            }
+            long size = Files.size(blob);
+            if (Files.deleteIfExists(blob)) {
+                storedBytes.addAndGet(-size);
+                String hash = blob.getFileName().toString();
+                evicted.add(hash);
+                lastUsedByHash.remove(hash);
+            }
+        }
+        hashesByUrl.values().removeIf(evicted::contains);
+        indexDirty.set(true);
+        LOGGER.info("Evicted " + evicted.size() + " images from disk store (" + storedBytes.get() + " bytes left)");
+    }
+
+    private void loadIndex() {
+        try {
+            if (Files.isDirectory(blobDirectory)) {
+                try (DirectoryStream<Path> stream = Files.newDirectoryStream(blobDirectory)) {
+                    for (Path blob : stream) {
+                        storedBytes.addAndGet(Files.size(blob));
+                    }
+                }
+            }
+
+            Path index = directory.resolve(INDEX_FILE);
+            if (!Files.isRegularFile(index)) {
+                return;
+            }
+            Properties properties = new Properties();
+            try (InputStream in = Files.newInputStream(index)) {
+                properties.load(in);
+            }
+            for (String url : properties.stringPropertyNames()) {
+                String hash = properties.getProperty(url);
+                if (Files.isRegularFile(blobFor(hash))) {
+                    hashesByUrl.put(url, hash);
+                }
+            }
+            LOGGER.info("Image store has " + hashesByUrl.size() + " URLs in " + storedBytes.get() + " bytes at " + directory);
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.log(Level.WARNING, "Ignoring unreadable image store index in " + directory, e);
+            hashesByUrl.clear();
+        }
+    }
+
+    private synchronized void saveIndex() throws IOException {
+        Properties properties = new Properties();
+        for (Map.Entry<String, String> entry : hashesByUrl.entrySet()) {
+            properties.setProperty(entry.getKey(), entry.getValue());
+        }
+
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, "index", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, "Image URL -> SHA-256 of the stored blob");
+            }
+            Files.move(temp, directory.resolve(INDEX_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Records a use in memory; the blob's modification time is updated by the next flush.
+     */
+    private void touch(String hash) {
+        lastUsedByHash.put(hash, System.currentTimeMillis());
+        touchedHashes.add(hash);
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            flusher.schedule(() -> {
+                flushScheduled.set(false);
+                flush();
+            }, FLUSH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * @return Last use recorded this session, or the blob's modification time (the last use of earlier sessions)
+     */
+    private long lastUsedMillis(Path blob) {
+        Long lastUsed = lastUsedByHash.get(blob.getFileName().toString());
+        return lastUsed != null ? lastUsed : lastModifiedMillis(blob);
+    }
+
+    private Path blobFor(String hash) {
+        return blobDirectory.resolve(hash);
+    }
+
+    private static long lastModifiedMillis(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
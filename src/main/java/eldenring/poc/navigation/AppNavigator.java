@@ -1,38 +1,128 @@
 package eldenring.poc.navigation;
 
+import eldenring.poc.config.UiConfig;
+import eldenring.poc.search.SearchResult;
 import javafx.scene.Node;
 import javafx.scene.layout.StackPane;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
 
+/**
+ * Swaps the screen shown in the center container and keeps a bounded Back history.
+ * History entries are descriptors that produce the screen again when navigated back to, not the screen
+ * nodes themselves, so screens (and their cards and images) left behind can be garbage collected.
+ * Search results clicked on any screen are routed through here to the screen of their category.
+ */
 public class AppNavigator {
+    private static final Logger LOGGER = Logger.getLogger(AppNavigator.class.getName());
+    private static final long MEGABYTE = 1024 * 1024;
+
     private final StackPane centerContainer;
-    private final Deque<Node> backStack = new ArrayDeque<>();
+    private final int maxHistory;
+    private final Deque<Supplier<Node>> backStack = new ArrayDeque<>();
+    private Supplier<Node> current;
+    private Consumer<SearchResult> searchResultHandler;
 
     public AppNavigator(StackPane centerContainer) {
+        this(centerContainer, UiConfig.getNavigationHistoryDepth());
+    }
+
+    /**
+     * @param centerContainer Container whose single child is the visible screen
+     * @param maxHistory Maximum number of entries kept for {@link #goBack()}
+     */
+    public AppNavigator(StackPane centerContainer, int maxHistory) {
         this.centerContainer = centerContainer;
+        this.maxHistory = Math.max(0, maxHistory);
     }
 
-    public void setCenter(Node node) {
-        Node current = null;
-        if (!centerContainer.getChildren().isEmpty()) {
-            current = centerContainer.getChildren().get(0);
-        }
-        if (current != null) {
+    /**
+     * Shows the screen produced by the descriptor and records the current one in the history.
+     * The descriptor is called again when the user navigates back to this entry, so it should
+     * capture only what is needed to produce the screen (e.g. a tab name or an item), not a node.
+     *
+     * @param screen Produces the screen to show
+     */
+    public void navigateTo(Supplier<Node> screen) {
+        if (current != null && maxHistory > 0) {
             backStack.push(current);
+            while (backStack.size() > maxHistory) {
+                backStack.removeLast();
+            }
         }
-        centerContainer.getChildren().setAll(node);
+        show(screen);
+    }
+
+    /**
+     * Shows a node that cannot be rebuilt. The history then keeps this node alive until the entry
+     * is dropped; prefer {@link #navigateTo(Supplier)}.
+     *
+     * @param node Screen to show
+     */
+    public void setCenter(Node node) {
+        navigateTo(() -> node);
+    }
+
+    /**
+     * Shows the screen produced by the descriptor without recording the current one.
+     *
+     * @param screen Produces the screen to show
+     */
+    public void replaceCenter(Supplier<Node> screen) {
+        show(screen);
     }
 
     public void replaceCenter(Node node) {
-        centerContainer.getChildren().setAll(node);
+        replaceCenter(() -> node);
     }
 
     public void goBack() {
         if (!backStack.isEmpty()) {
-            Node node = backStack.pop();
-            centerContainer.getChildren().setAll(node);
+            show(backStack.pop());
+        }
+    }
+
+    /**
+     * @param handler Shows a search result on the screen of its category
+     */
+    public void setSearchResultHandler(Consumer<SearchResult> handler) {
+        this.searchResultHandler = handler;
+    }
+
+    /**
+     * Shows a search result of any category, switching to the screen that lists it.
+     *
+     * @param result The result to show
+     */
+    public void openSearchResult(SearchResult result) {
+        if (searchResultHandler == null) {
+            LOGGER.fine("No screen to open search result " + result.getItem().getDisplayName() + " (" + result.getCategory() + ")");
+            return;
         }
+        searchResultHandler.accept(result);
+    }
+
+    public boolean canGoBack() {
+        return !backStack.isEmpty();
+    }
+
+    /**
+     * @return Number of entries {@link #goBack()} can return to
+     */
+    public int getHistorySize() {
+        return backStack.size();
+    }
+
+    private void show(Supplier<Node> screen) {
+        current = screen;
+        centerContainer.getChildren().setAll(screen.get());
+
+        Runtime runtime = Runtime.getRuntime();
+        long usedMb = (runtime.totalMemory() - runtime.freeMemory()) / MEGABYTE;
+        LOGGER.fine("Navigated (history " + backStack.size() + "/" + maxHistory + ", heap used " + usedMb + " MB)");
     }
 }
@@ -0,0 +1,25 @@
+package eldenring.poc.navigation;
+
+/**
+ * Lifecycle hooks for screens retained by the {@link ScreenFactory}.
+ * A retained screen is shown and hidden many times, and disposed once when it is evicted.
+ */
+public interface ManagedScreen {
+    /**
+     * Called when the screen becomes the visible tab, including the first time.
+     */
+    default void onShow() {
+    }
+
+    /**
+     * Called when another tab replaces the screen. The screen should stop background work it no longer needs.
+     */
+    default void onHide() {
+    }
+
+    /**
+     * Called when the screen is evicted and will never be shown again. Releases everything it holds.
+     */
+    default void dispose() {
+    }
+}
@@ -1,5 +1,6 @@
 package eldenring.poc.navigation;
 
+import eldenring.poc.config.UiConfig;
 import eldenring.poc.screens.AmmoScreen;
 import eldenring.poc.screens.ArmorScreen;
 import eldenring.poc.screens.AshesOfWarScreen;
@@ -16,17 +17,38 @@ import javafx.scene.Node;
 import javafx.scene.control.Label;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.logging.Logger;
 
 /**
  * Factory for creating screen instances based on tab names.
  * Uses a strategy pattern with a map to avoid long if-else chains.
+ * Also manages the screen lifecycle: the most recently used screens are retained in a bounded LRU,
+ * so switching back to a tab is a node swap that keeps its loaded pages. Screens implementing
+ * {@link ManagedScreen} are told when they are shown, hidden, and disposed on eviction.
  */
 public class ScreenFactory {
+    private static final Logger LOGGER = Logger.getLogger(ScreenFactory.class.getName());
+
     private final Map<String, Function<AppNavigator, Node>> screenCreators;
+    private final Map<String, String> tabsByCategory;
+    private final int maxRetained;
+    private final Map<String, Node> retainedScreens;
+    private Node visibleScreen;
 
     public ScreenFactory() {
+        this(UiConfig.getRetainedScreens());
+    }
+
+    /**
+     * @param maxRetained Maximum number of screens kept alive between tab switches
+     */
+    public ScreenFactory(int maxRetained) {
+        this.maxRetained = Math.max(1, maxRetained);
+        this.retainedScreens = new LinkedHashMap<>(16, 0.75f, true);
         screenCreators = new HashMap<>();
 
         screenCreators.put("Ammos", nav -> new AmmoScreen(nav).getView());
@@ -41,10 +63,34 @@ public class ScreenFactory {
         screenCreators.put("Talismans", nav -> new TalismanScreen(nav).getView());
         screenCreators.put("Items", nav -> new ItemScreen(nav).getView());
         screenCreators.put("Weapons", nav -> new WeaponCategoryScreen(nav).getView());
+
+        // Category cache keys of the services behind each tab, to open search results
+        tabsByCategory = new HashMap<>();
+        tabsByCategory.put("ammo", "Ammos");
+        tabsByCategory.put("armor", "Armors");
+        tabsByCategory.put("ashesofwar", "Ashes of War");
+        tabsByCategory.put("class", "Classes");
+        tabsByCategory.put("creature", "Creatures");
+        tabsByCategory.put("incantation", "Incantations");
+        tabsByCategory.put("shield", "Shields");
+        tabsByCategory.put("sorcery", "Sorceries");
+        tabsByCategory.put("spirit", "Spirits");
+        tabsByCategory.put("talisman", "Talismans");
+        tabsByCategory.put("item", "Items");
+        tabsByCategory.put("weaponCategory", "Weapons");
     }
 
     /**
-     * Gets a screen for the specified tab name.
+     * @param category Category cache key (e.g. "talisman")
+     * @return Name of the tab listing the category, or null if no tab does
+     */
+    public String getTabName(String category) {
+        return tabsByCategory.get(category);
+    }
+
+    /**
+     * Gets the screen for the specified tab name, reusing the retained one if there is one.
+     * The previously returned screen is hidden and the returned one shown.
      *
      * @param tabName Name of the tab
      * @param navigator AppNavigator instance to pass to screens
@@ -53,12 +99,52 @@ public class ScreenFactory {
     public Node getScreen(String tabName, AppNavigator navigator) {
         Function<AppNavigator, Node> creator = screenCreators.get(tabName);
 
+        // Return empty label for unimplemented tabs
+        Node screen = new Label("");
         if (creator != null) {
-            return creator.apply(navigator);
+            screen = retainedScreens.get(tabName);
+            if (screen == null) {
+                screen = creator.apply(navigator);
+                retainedScreens.put(tabName, screen);
+                evictLeastRecentlyUsed();
+            }
         }
 
-        // Return empty label for unimplemented tabs
-        return new Label("");
+        if (screen != visibleScreen) {
+            notify(visibleScreen, ManagedScreen::onHide);
+            visibleScreen = screen;
+            notify(screen, ManagedScreen::onShow);
+        }
+        return screen;
+    }
+
+    /**
+     * Disposes every retained screen.
+     */
+    public void disposeAll() {
+        for (Node screen : retainedScreens.values()) {
+            notify(screen, ManagedScreen::dispose);
+        }
+        retainedScreens.clear();
+        visibleScreen = null;
+    }
+
+    private void evictLeastRecentlyUsed() {
+        while (retainedScreens.size() > maxRetained) {
+            Map.Entry<String, Node> eldest = retainedScreens.entrySet().iterator().next();
+            retainedScreens.remove(eldest.getKey());
+            if (eldest.getValue() == visibleScreen) {
+                visibleScreen = null;
+            }
+            notify(eldest.getValue(), ManagedScreen::dispose);
+            LOGGER.info("Evicted screen " + eldest.getKey() + " (" + retainedScreens.size() + " retained)");
+        }
+    }
+
+    private static void notify(Node screen, Consumer<ManagedScreen> hook) {
+        if (screen instanceof ManagedScreen) {
+            hook.accept((ManagedScreen) screen);
+        }
     }
 
     /**
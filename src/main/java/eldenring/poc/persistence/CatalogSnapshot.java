@@ -0,0 +1,32 @@
+package eldenring.poc.persistence;
+
+import java.util.List;
+
+/**
+ * Items of one catalog category as read from disk, with the time they were scraped.
+ *
+ * @param <T> The model type of the category
+ */
+public class CatalogSnapshot<T> {
+    private final String category;
+    private final long writtenAtMillis;
+    private final List<T> items;
+
+    public CatalogSnapshot(String category, long writtenAtMillis, List<T> items) {
+        this.category = category;
+        this.writtenAtMillis = writtenAtMillis;
+        this.items = items;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public long getWrittenAtMillis() {
+        return writtenAtMillis;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+}
@@ -0,0 +1,184 @@
+package eldenring.poc.persistence;
+
+import eldenring.poc.config.CacheConfig;
+import eldenring.poc.models.BaseModel;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Persists each scraped catalog category to disk so restarts can show data without scraping.
+ * Files are written atomically through a temporary file, in the {@link SnapshotCodec} format.
+ * Snapshots are read through a read-only memory mapping: loading only validates the header and index,
+ * and items are verified and decoded when accessed.
+ * <p>
+ * A mapped file must never be replaced: Windows refuses to rename over or delete a file while it is mapped.
+ * Each save therefore writes a new file named after its write time ({@code <category>-<millis>.snap}) and loading
+ * picks the newest one. Older files of the category are deleted after every save and load; one that is still
+ * mapped is left behind and deleted by a later save or the next launch.
+ * Corrupt or outdated files are discarded and simply cause a fresh scrape.
+ */
+public final class CatalogSnapshotStore {
+    private static final Logger LOGGER = Logger.getLogger(CatalogSnapshotStore.class.getName());
+    private static final String EXTENSION = ".snap";
+    private static final Comparator<Path> NEWEST_FIRST =
+            Comparator.comparingLong(CatalogSnapshotStore::writtenAtOf).reversed();
+
+    private static final CatalogSnapshotStore SHARED = new CatalogSnapshotStore(CacheConfig.getSnapshotDirectory());
+
+    private final Path directory;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "catalog-snapshot-writer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public CatalogSnapshotStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @return The store used by every service
+     */
+    public static CatalogSnapshotStore shared() {
+        return SHARED;
+    }
+
+    /**
+     * Writes the category snapshot on a background thread.
+     *
+     * @param category Category cache key (e.g. "ammo")
+     * @param items Every item of the category
+     */
+    public void saveAsync(String category, List<? extends BaseModel> items) {
+        long writtenAtMillis = System.currentTimeMillis();
+        writer.execute(() -> {
+            try {
+                save(category, writtenAtMillis, items);
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Failed to write snapshot for " + category, e);
+            }
+        });
+    }
+
+    /**
+     * Writes the category snapshot atomically, then deletes the older snapshots of the category that are not mapped.
+     */
+    public void save(String category, long writtenAtMillis, List<? extends BaseModel> items) throws IOException {
+        Files.createDirectories(directory);
+        Path target = directory.resolve(category + "-" + writtenAtMillis + EXTENSION);
+        Path temp = Files.createTempFile(directory, category, ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                SnapshotCodec.write(out, category, writtenAtMillis, items);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOGGER.info("Wrote snapshot of " + items.size() + " items for " + category + " to " + target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        deleteOlderThan(category, target);
+    }
+
+    /**
+     * Maps the category snapshot if one exists and is valid. The returned items are decoded lazily.
+     *
+     * @param category Category cache key (e.g. "ammo")
+     * @param factory Creates a model from its display name and image URL
+     * @return The snapshot, or empty if missing, corrupt or written by another format version
+     */
+    public <T> Optional<CatalogSnapshot<T>> load(String category, BiFunction<String, String, T> factory) {
+        for (Path file : filesOf(category)) {
+            Optional<CatalogSnapshot<T>> snapshot = map(file, category, factory);
+            if (snapshot.isPresent()) {
+                deleteOlderThan(category, file);
+                return snapshot;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private <T> Optional<CatalogSnapshot<T>> map(Path file, String category, BiFunction<String, String, T> factory) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            CatalogSnapshot<T> snapshot = SnapshotCodec.map(mapping, category, factory);
+            LOGGER.info("Mapped snapshot of " + snapshot.getItems().size() + " items for " + category
+                    + " (" + channel.size() + " bytes)");
+            return Optional.of(snapshot);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Discarding unreadable snapshot " + file, e);
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Deletes the snapshots of the category written before {@code current}. Failures are expected while a file
+     * is still mapped on Windows, so they are only logged; the file is retried on the next save or load.
+     */
+    private void deleteOlderThan(String category, Path current) {
+        long currentWrittenAt = writtenAtOf(current);
+        for (Path file : filesOf(category)) {
+            if (writtenAtOf(file) >= currentWrittenAt) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                LOGGER.fine("Keeping older snapshot " + file + " until it is no longer mapped: " + e);
+            }
+        }
+    }
+
+    /**
+     * @return Snapshot files of the category, newest first. Files named {@code <category>.snap} by earlier
+     * versions sort last.
+     */
+    List<Path> filesOf(String category) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        Pattern name = Pattern.compile(Pattern.quote(category) + "(-\\d+)?" + Pattern.quote(EXTENSION));
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> name.matcher(file.getFileName().toString()).matches())
+                    .sorted(NEWEST_FIRST)
+                    .toList();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to list snapshots in " + directory, e);
+            return List.of();
+        }
+    }
+
+    private static long writtenAtOf(Path file) {
+        String name = file.getFileName().toString();
+        int dash = name.lastIndexOf('-');
+        if (dash < 0) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(dash + 1, name.length() - EXTENSION.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package eldenring.poc.persistence;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.function.BiFunction;
+
+/**
+ * Read-only list backed by a memory-mapped snapshot. Items are decoded from the mapping each time
+ * they are accessed, so only the page being displayed occupies heap; the rest stays in the page cache.
+ * Any index is an O(1) lookup through the offset index, and each decoded record is checked against its checksum.
+ *
+ * @param <T> The model type of the category
+ */
+final class MappedRecordList<T> extends AbstractList<T> implements RandomAccess {
+    private final ByteBuffer buffer;
+    private final int indexOffset;
+    private final int recordChecksumsOffset;
+    private final int recordsOffset;
+    private final int size;
+    private final BiFunction<String, String, T> factory;
+
+    MappedRecordList(ByteBuffer buffer, int indexOffset, int recordChecksumsOffset, int recordsOffset, int size,
+                     BiFunction<String, String, T> factory) {
+        this.buffer = buffer;
+        this.indexOffset = indexOffset;
+        this.recordChecksumsOffset = recordChecksumsOffset;
+        this.recordsOffset = recordsOffset;
+        this.size = size;
+        this.factory = factory;
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        int start = buffer.getInt(indexOffset + index * Integer.BYTES);
+        int end = buffer.getInt(indexOffset + (index + 1) * Integer.BYTES);
+        if (start < 0 || end < start || recordsOffset + (long) end > buffer.limit()) {
+            throw new IllegalStateException("Corrupt snapshot index at item " + index);
+        }
+        int checksum = buffer.getInt(recordChecksumsOffset + index * Integer.BYTES);
+        return SnapshotCodec.decodeRecord(buffer, recordsOffset + start, recordsOffset + end, checksum, factory);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
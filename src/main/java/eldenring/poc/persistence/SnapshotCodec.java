@@ -0,0 +1,174 @@
+package eldenring.poc.persistence;
+
+import eldenring.poc.models.BaseModel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.zip.CRC32;
+
+/**
+ * Compact binary codec for catalog snapshots, laid out so a snapshot can be read straight from a
+ * memory-mapped file without decoding it up front.
+ * <pre>
+ * int    magic ("ERCS")
+ * short  format version
+ * string category
+ * long   written-at epoch millis
+ * int    item count (n)
+ * int[]  n + 1 record offsets, relative to the start of the records
+ * int[]  n record checksums, the CRC32 of each record
+ * long   CRC32 of everything above
+ * bytes  records: (string displayName, string imageUrl) per item
+ * </pre>
+ * Strings are an unsigned short byte length followed by UTF-8 bytes.
+ * The header and index are verified when the snapshot is mapped; each record is verified against its own
+ * checksum when it is decoded, so corruption anywhere is detected without reading the whole file up front.
+ */
+final class SnapshotCodec {
+    static final int MAGIC = 0x45524353;
+    static final short VERSION = 3;
+
+    private SnapshotCodec() { }
+
+    static void write(OutputStream out, String category, long writtenAtMillis, List<? extends BaseModel> items) throws IOException {
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream(Math.max(64, items.size() * 96));
+        DataOutputStream records = new DataOutputStream(recordBytes);
+        int[] offsets = new int[items.size() + 1];
+        for (int i = 0; i < items.size(); i++) {
+            offsets[i] = records.size();
+            BaseModel item = items.get(i);
+            writeString(records, item.getDisplayName());
+            writeString(records, item.getImageUrl());
+        }
+        offsets[items.size()] = records.size();
+        records.flush();
+
+        byte[] recordArray = recordBytes.toByteArray();
+        int[] recordChecksums = new int[items.size()];
+        CRC32 recordCrc = new CRC32();
+        for (int i = 0; i < items.size(); i++) {
+            recordCrc.reset();
+            recordCrc.update(recordArray, offsets[i], offsets[i + 1] - offsets[i]);
+            recordChecksums[i] = (int) recordCrc.getValue();
+        }
+
+        ByteArrayOutputStream headerBytes = new ByteArrayOutputStream(32 + (offsets.length + recordChecksums.length) * Integer.BYTES);
+        DataOutputStream header = new DataOutputStream(headerBytes);
+        header.writeInt(MAGIC);
+        header.writeShort(VERSION);
+        writeString(header, category);
+        header.writeLong(writtenAtMillis);
+        header.writeInt(items.size());
+        for (int offset : offsets) {
+            header.writeInt(offset);
+        }
+        for (int recordChecksum : recordChecksums) {
+            header.writeInt(recordChecksum);
+        }
+        header.flush();
+
+        CRC32 crc = new CRC32();
+        crc.update(headerBytes.toByteArray());
+
+        DataOutputStream data = new DataOutputStream(out);
+        headerBytes.writeTo(data);
+        data.writeLong(crc.getValue());
+        data.write(recordArray);
+        data.flush();
+    }
+
+    /**
+     * Validates the header and index of a snapshot and returns a list that decodes records on access.
+     * Cost is independent of the number of items apart from checksumming the index; records are verified as they
+     * are decoded.
+     *
+     * @param buffer Snapshot bytes, typically a read-only mapped file
+     * @param expectedCategory Category the snapshot must belong to
+     * @param factory Creates a model from its display name and image URL
+     */
+    static <T> CatalogSnapshot<T> map(ByteBuffer buffer, String expectedCategory, BiFunction<String, String, T> factory) throws IOException {
+        try {
+            ByteBuffer data = buffer.duplicate();
+            if (data.getInt() != MAGIC) {
+                throw new IOException("Not a catalog snapshot");
+            }
+            short version = data.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version " + version);
+            }
+            String category = readString(data, data.position());
+            data.position(data.position() + Short.BYTES + stringLength(data, data.position()));
+            if (!category.equals(expectedCategory)) {
+                throw new IOException("Snapshot is for category " + category + ", expected " + expectedCategory);
+            }
+            long writtenAtMillis = data.getLong();
+            int count = data.getInt();
+            if (count < 0 || count > ((data.remaining() - Long.BYTES) / Integer.BYTES - 1) / 2) {
+                throw new IOException("Corrupt snapshot header");
+            }
+
+            int indexOffset = data.position();
+            int recordChecksumsOffset = indexOffset + (count + 1) * Integer.BYTES;
+            int checksumOffset = recordChecksumsOffset + count * Integer.BYTES;
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate().position(0).limit(checksumOffset));
+            if (crc.getValue() != data.getLong(checksumOffset)) {
+                throw new IOException("Snapshot checksum mismatch");
+            }
+
+            int recordsOffset = checksumOffset + Long.BYTES;
+            if (recordsOffset + (long) data.getInt(indexOffset + count * Integer.BYTES) > buffer.limit()) {
+                throw new IOException("Snapshot is truncated");
+            }
+            List<T> items = new MappedRecordList<>(buffer, indexOffset, recordChecksumsOffset, recordsOffset, count, factory);
+            return new CatalogSnapshot<>(category, writtenAtMillis, items);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Snapshot is truncated", e);
+        }
+    }
+
+    /**
+     * Verifies and decodes one record. Uses absolute reads only, so concurrent callers can share the buffer.
+     *
+     * @param expectedChecksum CRC32 of the record, as stored in the index
+     */
+    static <T> T decodeRecord(ByteBuffer buffer, int recordStart, int recordEnd, int expectedChecksum,
+                              BiFunction<String, String, T> factory) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().limit(recordEnd).position(recordStart));
+        if ((int) crc.getValue() != expectedChecksum) {
+            throw new IllegalStateException("Snapshot record at offset " + recordStart + " fails its checksum");
+        }
+        int imageStart = recordStart + Short.BYTES + stringLength(buffer, recordStart);
+        if (imageStart + Short.BYTES + stringLength(buffer, imageStart) != recordEnd) {
+            throw new IllegalStateException("Corrupt snapshot record at offset " + recordStart);
+        }
+        return factory.apply(readString(buffer, recordStart), readString(buffer, imageStart));
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IOException("String too long for snapshot: " + bytes.length + " bytes");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static int stringLength(ByteBuffer buffer, int offset) {
+        return Short.toUnsignedInt(buffer.getShort(offset));
+    }
+
+    private static String readString(ByteBuffer buffer, int offset) {
+        byte[] bytes = new byte[stringLength(buffer, offset)];
+        buffer.get(offset + Short.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
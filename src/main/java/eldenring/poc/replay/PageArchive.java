@@ -0,0 +1,66 @@
+package eldenring.poc.replay;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * Directory of recorded wiki pages, one HTML file per page path (e.g. "/Arrows+and+Bolts").
+ * A page is recorded as the scraper saw it when it started extracting, so pages whose items sit behind
+ * a tab are stored with that tab already opened.
+ */
+public final class PageArchive {
+    private static final String EXTENSION = ".html";
+
+    private final Path directory;
+
+    public PageArchive(Path directory) {
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Saves a page, replacing any earlier recording of the same path. Written atomically through a temporary file.
+     *
+     * @param pagePath Path of the page below the wiki base URL, e.g. "/Armor"
+     * @param html Page source
+     */
+    public void save(String pagePath, String html) throws IOException {
+        Files.createDirectories(directory);
+        Path target = fileFor(pagePath);
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            Files.writeString(temp, html, StandardCharsets.UTF_8);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * @param pagePath Path of the page below the wiki base URL, e.g. "/Armor"
+     * @return The recorded page source, or empty if the page was never recorded
+     */
+    public Optional<String> load(String pagePath) throws IOException {
+        Path file = fileFor(pagePath);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        return Optional.of(Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Maps a page path to a file name, keeping letters, digits and "+._-" and replacing everything else.
+     */
+    Path fileFor(String pagePath) {
+        String name = pagePath == null ? "" : pagePath.replaceFirst("^/+", "");
+        name = name.replaceAll("[^A-Za-z0-9+._-]", "_");
+        return directory.resolve((name.isEmpty() ? "index" : name) + EXTENSION);
+    }
+}
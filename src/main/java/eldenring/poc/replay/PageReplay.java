@@ -0,0 +1,78 @@
+package eldenring.poc.replay;
+
+import eldenring.poc.config.ApiConfig;
+import eldenring.poc.config.ScraperConfig;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Entry point of page record/replay, configured with -Deldenring.replay.mode=off|record|replay
+ * and -Deldenring.replay.dir.
+ * In record mode scrapers save every page they extract from; in replay mode a {@link ReplayServer}
+ * serves those pages and {@link ApiConfig#getBaseUrl()} points at it, so scraping needs no network.
+ */
+public final class PageReplay {
+    private static final Logger LOGGER = Logger.getLogger(PageReplay.class.getName());
+
+    private static final ReplayMode MODE = ReplayMode.parse(ScraperConfig.getReplayMode());
+    private static final PageArchive ARCHIVE = new PageArchive(ScraperConfig.getReplayDirectory());
+
+    private static ReplayServer server;
+
+    private PageReplay() { }
+
+    public static ReplayMode getMode() {
+        return MODE;
+    }
+
+    /**
+     * Starts the replay server and redirects scrapers to it when replay mode is configured.
+     * Must be called before the first scrape.
+     */
+    public static synchronized void install() {
+        if (MODE == ReplayMode.RECORD) {
+            LOGGER.info("Recording scraped pages to " + ARCHIVE.getDirectory());
+        }
+        if (MODE != ReplayMode.REPLAY || server != null) {
+            return;
+        }
+        try {
+            server = ReplayServer.start(ARCHIVE, ScraperConfig.getReplayPort());
+            ApiConfig.overrideBaseUrl(server.getBaseUrl());
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Failed to start the replay server - scraping the live wiki instead", e);
+        }
+    }
+
+    /**
+     * Stops the replay server, if one is running, and restores the configured base URL.
+     */
+    public static synchronized void shutdown() {
+        if (server != null) {
+            server.close();
+            server = null;
+            ApiConfig.overrideBaseUrl(null);
+        }
+    }
+
+    /**
+     * Saves the page in record mode; does nothing otherwise, without producing the source.
+     *
+     * @param pagePath Path of the page below the wiki base URL, e.g. "/Armor"
+     * @param pageSource Produces the page source as the scraper sees it
+     */
+    public static void record(String pagePath, Supplier<String> pageSource) {
+        if (MODE != ReplayMode.RECORD) {
+            return;
+        }
+        try {
+            ARCHIVE.save(pagePath, pageSource.get());
+            LOGGER.info("Recorded " + pagePath);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to record " + pagePath, e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package eldenring.poc.replay;
+
+/**
+ * What the scrapers do with the wiki pages they load.
+ */
+public enum ReplayMode {
+    /**
+     * Pages are loaded from the wiki and not saved.
+     */
+    OFF,
+
+    /**
+     * Pages are loaded from the wiki and saved to the {@link PageArchive} as they are scraped.
+     */
+    RECORD,
+
+    /**
+     * Pages are served from the {@link PageArchive} by a local {@link ReplayServer}, stripped of every resource
+     * the browser would fetch, so scraping never contacts the wiki. The catalog images the app displays are still
+     * downloaded from their wiki URLs unless the image store already holds them.
+     */
+    REPLAY;
+
+    /**
+     * Parses a mode name, falling back to OFF for null or unknown values.
+     */
+    static ReplayMode parse(String value) {
+        if (value == null || value.isBlank()) {
+            return OFF;
+        }
+        try {
+            return ReplayMode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return OFF;
+        }
+    }
+}
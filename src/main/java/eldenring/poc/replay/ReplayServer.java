@@ -0,0 +1,166 @@
+package eldenring.poc.replay;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import eldenring.poc.config.ApiConfig;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.DataNode;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded HTTP server that serves recorded wiki pages on the loopback interface, so scrapers and
+ * benchmarks run offline and see the same pages on every run.
+ * Pages are served without anything the browser would fetch from elsewhere, so a replayed scrape makes
+ * no request beyond the loopback interface and does not depend on the wiki's stylesheets:
+ * <ul>
+ *     <li>scripts are stripped; the recordings already hold the DOM the wiki's scripts produced</li>
+ *     <li>stylesheets, icons, preloads, frames and media are stripped, as are {@code url(...)} references
+ *     in inline styles</li>
+ *     <li>image URLs move to {@code data-src}, always made absolute against the real wiki, and {@code src}
+ *     becomes an inline placeholder, so scrapers read the same image URLs as on the live wiki without loading
+ *     them</li>
+ * </ul>
+ * Without the wiki's CSS every tab of a page is displayed, so readiness checks pass as soon as the page loads.
+ * Paths that were never recorded get a 404.
+ */
+public final class ReplayServer implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(ReplayServer.class.getName());
+    /** Transparent 1x1 GIF, so image elements keep a size without a request. */
+    static final String PLACEHOLDER_IMAGE = "data:image/gif;base64,R0lGODlhAQABAIAAAAAAAP///yH5BAEAAAAALAAAAAABAAEAAAIBRAA7";
+    private static final Pattern CSS_URL = Pattern.compile("url\\([^)]*\\)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern CSS_IMPORT = Pattern.compile("@import[^;]*;", Pattern.CASE_INSENSITIVE);
+
+    private final PageArchive archive;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicLong served = new AtomicLong();
+    private final AtomicLong missing = new AtomicLong();
+
+    private ReplayServer(PageArchive archive, HttpServer server, ExecutorService executor) {
+        this.archive = archive;
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts serving the archive.
+     *
+     * @param archive Recorded pages
+     * @param port Port to listen on, 0 for any free port
+     * @return The running server
+     */
+    public static ReplayServer start(PageArchive archive, int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        ExecutorService executor = Executors.newFixedThreadPool(4, r -> {
+            Thread t = new Thread(r, "replay-server");
+            t.setDaemon(true);
+            return t;
+        });
+        ReplayServer replay = new ReplayServer(archive, server, executor);
+        server.createContext("/", replay::handle);
+        server.setExecutor(executor);
+        server.start();
+        LOGGER.info("Replaying pages from " + archive.getDirectory() + " at " + replay.getBaseUrl());
+        return replay;
+    }
+
+    /**
+     * @return Base URL to use in place of the wiki base URL, without a trailing slash
+     */
+    public String getBaseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort();
+    }
+
+    /**
+     * @return Number of requests answered with a recorded page
+     */
+    public long getServedCount() {
+        return served.get();
+    }
+
+    /**
+     * @return Number of requests for paths that were never recorded
+     */
+    public long getMissingCount() {
+        return missing.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        LOGGER.info("Replay server stopped (" + served.get() + " pages served, " + missing.get() + " not recorded)");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getRawPath();
+            Optional<String> page = archive.load(path);
+            if (page.isEmpty()) {
+                missing.incrementAndGet();
+                LOGGER.fine("No recording for " + path);
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            byte[] body = prepare(page.get(), path).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+            served.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to serve " + exchange.getRequestURI(), e);
+        }
+    }
+
+    /**
+     * Rewrites a recorded page so the browser has nothing to fetch but the page itself.
+     *
+     * @param html Recorded page
+     * @param path Path the page was recorded under, to resolve its relative image URLs against the wiki
+     * @return The page to serve
+     */
+    static String prepare(String html, String path) {
+        Document document = Jsoup.parse(html, ApiConfig.getSiteUrl() + path);
+        document.select("script, noscript, base, link, iframe, frame, object, embed, video, audio, source").remove();
+        document.select("meta[http-equiv]").remove();
+
+        for (Element img : document.select("img")) {
+            // Absolute against the wiki, since scrapers resolve relative URLs against the loopback page they read
+            String image = img.absUrl(img.attr("data-src").isEmpty() ? "src" : "data-src");
+            if (image.isEmpty()) {
+                img.removeAttr("data-src");
+            } else {
+                img.attr("data-src", image);
+            }
+            img.attr("src", PLACEHOLDER_IMAGE);
+            img.removeAttr("srcset");
+            img.removeAttr("data-srcset");
+        }
+        for (Element styled : document.select("[style]")) {
+            styled.attr("style", CSS_URL.matcher(styled.attr("style")).replaceAll("none"));
+        }
+        for (Element style : document.select("style")) {
+            String css = CSS_IMPORT.matcher(style.data()).replaceAll("");
+            style.empty().appendChild(new DataNode(CSS_URL.matcher(css).replaceAll("none")));
+        }
+        return document.outerHtml();
+    }
+}
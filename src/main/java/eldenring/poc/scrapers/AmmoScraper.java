@@ -11,6 +11,7 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -18,28 +19,58 @@ import java.util.logging.Logger;
  * Web scraper for extracting ammo information from Fextralife wiki.
  * Scrapes the "Arrows and Bolts" gallery page.
  */
-public class AmmoScraper extends BaseScraper {
+public class AmmoScraper extends BaseScraper implements CatalogScraper<AmmoBase> {
     private static final Logger LOGGER = Logger.getLogger(AmmoScraper.class.getName());
-    private static final String AMMO_PAGE_URL = ApiConfig.getBaseUrl() + "/Arrows+and+Bolts";
+    private static final String AMMO_PAGE_PATH = "/Arrows+and+Bolts";
 
     public AmmoScraper() {
         super(LOGGER);
     }
 
+    @Override
+    public List<AmmoBase> scrape() {
+        return scrapeAmmos();
+    }
+
+    @Override
+    public List<AmmoBase> scrape(Consumer<List<AmmoBase>> sink) {
+        return scrapeAmmos(sink);
+    }
+
+    /**
+     * Ready once the gallery tab is visible and its images have stopped appearing.
+     */
+    @Override
+    protected ReadyCondition readyCondition() {
+        return ReadyCondition.visible(By.xpath("//div[contains(@class, 'tabcontent') and contains(@class, '1-tab')]"))
+                .and(ReadyCondition.stableCount(By.xpath("//div[contains(@class, 'tabcontent') and contains(@class, '1-tab')]//img"), 2));
+    }
+
     /**
      * Scrapes all ammo items from the Fextralife wiki gallery.
      *
      * @return List of AmmoBase objects containing name and image URL
      */
     public List<AmmoBase> scrapeAmmos() {
+        return scrapeAmmos(batch -> { });
+    }
+
+    /**
+     * Scrapes all ammo items, handing them to the sink as they are extracted: a chunk of cards per script call
+     * with the bulk script, all at once when walking elements.
+     *
+     * @param sink Receives batches of extracted ammo items, in page order
+     * @return List of AmmoBase objects containing title and image URL
+     */
+    public List<AmmoBase> scrapeAmmos(Consumer<List<AmmoBase>> sink) {
         List<AmmoBase> ammos = new ArrayList<>();
         WebDriver driver = null;
 
         try {
-            logger.info("Starting ammo scraping from: " + AMMO_PAGE_URL);
+            logger.info("Starting ammo scraping from: " + wikiUrl(AMMO_PAGE_PATH));
 
-            driver = createWebDriver();
-            driver.get(AMMO_PAGE_URL);
+            driver = borrowDriver();
+            driver.get(wikiUrl(AMMO_PAGE_PATH));
 
             // Wait for page to load
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
@@ -53,7 +84,7 @@ public class AmmoScraper extends BaseScraper {
             galleryTab.click();
 
             // Wait for tab content to appear
-            Thread.sleep(1000); // Small delay to ensure content is visible
+            awaitReady(driver);
 
             // Find the tab content (class contains both "tabcontent" and "1-tab")
             WebElement tabContent = wait.until(ExpectedConditions.presenceOfElementLocated(
@@ -62,56 +93,75 @@ public class AmmoScraper extends BaseScraper {
 
             logger.info("Tab content loaded, extracting items...");
 
-            // Find all gallery rows
-            List<WebElement> galleryRows = tabContent.findElements(By.cssSelector("div.row"));
-
-            for (WebElement row : galleryRows) {
-                // Find all wiki_link elements within the row, regardless of nesting structure
-                List<WebElement> wikiLinks = row.findElements(By.cssSelector("[class*='wiki_link']"));
-
-                for (WebElement wikiLink : wikiLinks) {
-                    try {
-                        // Extract image from wiki_link element
-                        WebElement imgElement = wikiLink.findElement(By.tagName("img"));
-
-                        String imgSrc = imgElement.getAttribute("data-src");
-                        if (imgSrc == null || imgSrc.isEmpty()) {
-                            imgSrc = imgElement.getAttribute("src");
-                        }
-
-                        // Make sure image URL is absolute
-                        String fullImageUrl = imgSrc;
-                        if (imgSrc != null && imgSrc.startsWith("/")) {
-                            fullImageUrl = ApiConfig.getBaseUrl() + imgSrc;
-                        }
-
-                        // Extract name from wiki_link text content
-                        String rawText = wikiLink.getText();
+            recordPage(driver, AMMO_PAGE_PATH);
 
-                        // Clean up the name - remove any extra whitespace and line breaks
-                        String name = rawText.replaceAll("\\s+", " ").trim();
-
-                        if (name != null && !name.isEmpty() && fullImageUrl != null && !fullImageUrl.isEmpty()) {
-                            AmmoBase ammo = new AmmoBase(name, fullImageUrl);
-                            ammos.add(ammo);
-                            logger.fine("Scraped ammo: " + name + " with image: " + fullImageUrl);
-                        }
-
-                    } catch (Exception e) {
-                        logger.log(Level.WARNING, "Failed to extract ammo from wiki_link element", e);
-                    }
+            long extractStart = System.nanoTime();
+            if (getExtractionMode() == ExtractionMode.BULK_SCRIPT) {
+                streamCardsInBulk(driver, tabContent, "div.row", "[class*='wiki_link']", null,
+                        card -> new AmmoBase(card.getTitle().replaceAll("\\s+", " "), card.getImage()), ammos, sink);
+            } else {
+                extractByWalkingElements(tabContent, ammos);
+                if (!ammos.isEmpty()) {
+                    sink.accept(List.copyOf(ammos));
                 }
             }
+            logExtractionTime(ammos.size(), extractStart);
 
             logger.info("Successfully scraped " + ammos.size() + " ammo items");
 
         } catch (Exception e) {
             logger.log(Level.SEVERE, "Failed to scrape ammos", e);
         } finally {
-            quitDriver(driver);
+            returnDriver(driver);
         }
 
         return ammos;
     }
+
+    /**
+     * Reads ammo cards one WebDriver round trip at a time.
+     */
+    private void extractByWalkingElements(WebElement tabContent, List<AmmoBase> ammos) {
+        // Find all gallery rows
+        List<WebElement> galleryRows = tabContent.findElements(By.cssSelector("div.row"));
+
+        for (WebElement row : galleryRows) {
+            // Find all wiki_link elements within the row, regardless of nesting structure
+            List<WebElement> wikiLinks = row.findElements(By.cssSelector("[class*='wiki_link']"));
+
+            for (WebElement wikiLink : wikiLinks) {
+                try {
+                    // Extract image from wiki_link element
+                    WebElement imgElement = wikiLink.findElement(By.tagName("img"));
+
+                    String imgSrc = imgElement.getAttribute("data-src");
+                    if (imgSrc == null || imgSrc.isEmpty()) {
+                        imgSrc = imgElement.getAttribute("src");
+                    }
+
+                    // Make sure image URL is absolute
+                    String fullImageUrl = imgSrc;
+                    if (imgSrc != null && imgSrc.startsWith("/")) {
+                        fullImageUrl = ApiConfig.getSiteUrl() + imgSrc;
+                    }
+
+                    // Extract name from wiki_link text content
+                    String rawText = wikiLink.getText();
+
+                    // Clean up the name - remove any extra whitespace and line breaks
+                    String name = rawText.replaceAll("\\s+", " ").trim();
+
+                    if (name != null && !name.isEmpty() && fullImageUrl != null && !fullImageUrl.isEmpty()) {
+                        AmmoBase ammo = new AmmoBase(name, fullImageUrl);
+                        ammos.add(ammo);
+                        logger.fine("Scraped ammo: " + name + " with image: " + fullImageUrl);
+                    }
+
+                } catch (Exception e) {
+                    logger.log(Level.WARNING, "Failed to extract ammo from wiki_link element", e);
+                }
+            }
+        }
+    }
 }
 
@@ -11,6 +11,7 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -18,28 +19,49 @@ import java.util.logging.Logger;
  * Web scraper for extracting armor information from Fextralife wiki.
  * Scrapes the Armor page.
  */
-public class ArmorScraper extends BaseScraper {
+public class ArmorScraper extends BaseScraper implements CatalogScraper<ArmorBase> {
     private static final Logger LOGGER = Logger.getLogger(ArmorScraper.class.getName());
-    private static final String ARMOR_PAGE_URL = ApiConfig.getBaseUrl() + "/Armor";
+    private static final String ARMOR_PAGE_PATH = "/Armor";
 
     public ArmorScraper() {
         super(LOGGER);
     }
 
+    @Override
+    public List<ArmorBase> scrape() {
+        return scrapeArmors();
+    }
+
+    @Override
+    public List<ArmorBase> scrape(Consumer<List<ArmorBase>> sink) {
+        return scrapeArmors(sink);
+    }
+
     /**
      * Scrapes all armor items from the Fextralife wiki.
      *
      * @return List of ArmorBase objects containing title and image URL
      */
     public List<ArmorBase> scrapeArmors() {
+        return scrapeArmors(batch -> { });
+    }
+
+    /**
+     * Scrapes all armor items from the Fextralife wiki, handing them to the sink as they are extracted:
+     * one gallery row at a time when walking elements, a chunk of cards per script call with the bulk script.
+     *
+     * @param sink Receives batches of extracted armors, in page order
+     * @return List of ArmorBase objects containing title and image URL
+     */
+    public List<ArmorBase> scrapeArmors(Consumer<List<ArmorBase>> sink) {
         List<ArmorBase> armors = new ArrayList<>();
         WebDriver driver = null;
 
         try {
-            logger.info("Starting armor scraping from: " + ARMOR_PAGE_URL);
+            logger.info("Starting armor scraping from: " + wikiUrl(ARMOR_PAGE_PATH));
 
-            driver = createWebDriver();
-            driver.get(ARMOR_PAGE_URL);
+            driver = borrowDriver();
+            driver.get(wikiUrl(ARMOR_PAGE_PATH));
 
             // Wait for page to load
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
@@ -51,53 +73,75 @@ public class ArmorScraper extends BaseScraper {
 
             logger.info("Found main content area, extracting armor items...");
 
-            // Find all rows within the main content
-            List<WebElement> rows = mainContent.findElements(By.cssSelector("div[class*='row']"));
-
-            for (WebElement row : rows) {
-                // Find all col divs within each row
-                List<WebElement> cols = row.findElements(By.cssSelector("div[class*='col']"));
-
-                for (WebElement col : cols) {
-                    try {
-                        // Find h4 element containing the title
-                        WebElement h4Element = col.findElement(By.tagName("h4"));
-                        String title = h4Element.getText().trim();
-
-                        // Find img element containing the image URL
-                        WebElement imgElement = col.findElement(By.tagName("img"));
-                        String imgSrc = imgElement.getAttribute("data-src");
-                        if (imgSrc == null || imgSrc.isEmpty()) {
-                            imgSrc = imgElement.getAttribute("src");
-                        }
-
-                        // Make sure image URL is absolute
-                        String fullImageUrl = imgSrc;
-                        if (imgSrc != null && imgSrc.startsWith("/")) {
-                            fullImageUrl = ApiConfig.getBaseUrl() + imgSrc;
-                        }
-
-                        if (title != null && !title.isEmpty() && fullImageUrl != null && !fullImageUrl.isEmpty()) {
-                            ArmorBase armor = new ArmorBase(title, fullImageUrl);
-                            armors.add(armor);
-                            logger.fine("Scraped armor: " + title + " with image: " + fullImageUrl);
-                        }
-
-                    } catch (Exception e) {
-                        logger.log(Level.WARNING, "Failed to extract armor from col element", e);
-                    }
-                }
+            recordPage(driver, ARMOR_PAGE_PATH);
+
+            long extractStart = System.nanoTime();
+            if (getExtractionMode() == ExtractionMode.BULK_SCRIPT) {
+                streamCardsInBulk(driver, mainContent, "div[class*='row']", "div[class*='col']", "h4",
+                        card -> new ArmorBase(card.getTitle(), card.getImage()), armors, sink);
+            } else {
+                extractByWalkingElements(mainContent, armors, sink);
             }
+            logExtractionTime(armors.size(), extractStart);
 
             logger.info("Successfully scraped " + armors.size() + " armor items");
 
         } catch (Exception e) {
             logger.log(Level.SEVERE, "Failed to scrape armors", e);
         } finally {
-            quitDriver(driver);
+            returnDriver(driver);
         }
 
         return armors;
     }
+
+    /**
+     * Reads armor cards one WebDriver round trip at a time, handing each row's armors to the sink.
+     */
+    private void extractByWalkingElements(WebElement mainContent, List<ArmorBase> armors,
+                                          Consumer<List<ArmorBase>> sink) {
+        // Find all rows within the main content
+        List<WebElement> rows = mainContent.findElements(By.cssSelector("div[class*='row']"));
+
+        for (WebElement row : rows) {
+            // Find all col divs within each row
+            List<WebElement> cols = row.findElements(By.cssSelector("div[class*='col']"));
+            int rowStart = armors.size();
+
+            for (WebElement col : cols) {
+                try {
+                    // Find h4 element containing the title
+                    WebElement h4Element = col.findElement(By.tagName("h4"));
+                    String title = h4Element.getText().trim();
+
+                    // Find img element containing the image URL
+                    WebElement imgElement = col.findElement(By.tagName("img"));
+                    String imgSrc = imgElement.getAttribute("data-src");
+                    if (imgSrc == null || imgSrc.isEmpty()) {
+                        imgSrc = imgElement.getAttribute("src");
+                    }
+
+                    // Make sure image URL is absolute
+                    String fullImageUrl = imgSrc;
+                    if (imgSrc != null && imgSrc.startsWith("/")) {
+                        fullImageUrl = ApiConfig.getSiteUrl() + imgSrc;
+                    }
+
+                    if (title != null && !title.isEmpty() && fullImageUrl != null && !fullImageUrl.isEmpty()) {
+                        ArmorBase armor = new ArmorBase(title, fullImageUrl);
+                        armors.add(armor);
+                        logger.fine("Scraped armor: " + title + " with image: " + fullImageUrl);
+                    }
+
+                } catch (Exception e) {
+                    logger.log(Level.WARNING, "Failed to extract armor from col element", e);
+                }
+            }
+
+            if (armors.size() > rowStart) {
+                sink.accept(List.copyOf(armors.subList(rowStart, armors.size())));
+            }
+        }
+    }
 }
 
@@ -11,6 +11,7 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -18,28 +19,58 @@ import java.util.logging.Logger;
  * Web scraper for extracting Ashes of War information from Fextralife wiki.
  * Scrapes the Ashes of War page.
  */
-public class AshesOfWarScraper extends BaseScraper {
+public class AshesOfWarScraper extends BaseScraper implements CatalogScraper<AshesOfWarBase> {
     private static final Logger LOGGER = Logger.getLogger(AshesOfWarScraper.class.getName());
-    private static final String ASHES_OF_WAR_PAGE_URL = ApiConfig.getBaseUrl() + "/Ashes+of+War";
+    private static final String ASHES_OF_WAR_PAGE_PATH = "/Ashes+of+War";
 
     public AshesOfWarScraper() {
         super(LOGGER);
     }
 
+    @Override
+    public List<AshesOfWarBase> scrape() {
+        return scrapeAshesOfWar();
+    }
+
+    @Override
+    public List<AshesOfWarBase> scrape(Consumer<List<AshesOfWarBase>> sink) {
+        return scrapeAshesOfWar(sink);
+    }
+
+    /**
+     * Ready once the gallery tab is visible and its images have stopped appearing.
+     */
+    @Override
+    protected ReadyCondition readyCondition() {
+        return ReadyCondition.visible(By.xpath("//div[contains(@class, 'tabcontent') and contains(@class, '1-tab')]"))
+                .and(ReadyCondition.stableCount(By.xpath("//div[contains(@class, 'tabcontent') and contains(@class, '1-tab')]//img"), 2));
+    }
+
     /**
      * Scrapes all Ashes of War items from the Fextralife wiki.
      *
      * @return List of AshesOfWarBase objects containing title and image URL
      */
     public List<AshesOfWarBase> scrapeAshesOfWar() {
+        return scrapeAshesOfWar(batch -> { });
+    }
+
+    /**
+     * Scrapes all Ashes of War, handing them to the sink as they are extracted: a chunk of cards per script call
+     * with the bulk script, all at once when walking elements.
+     *
+     * @param sink Receives batches of extracted Ashes of War, in page order
+     * @return List of AshesOfWarBase objects containing title and image URL
+     */
+    public List<AshesOfWarBase> scrapeAshesOfWar(Consumer<List<AshesOfWarBase>> sink) {
         List<AshesOfWarBase> ashesOfWar = new ArrayList<>();
         WebDriver driver = null;
 
         try {
-            logger.info("Starting Ashes of War scraping from: " + ASHES_OF_WAR_PAGE_URL);
+            logger.info("Starting Ashes of War scraping from: " + wikiUrl(ASHES_OF_WAR_PAGE_PATH));
 
-            driver = createWebDriver();
-            driver.get(ASHES_OF_WAR_PAGE_URL);
+            driver = borrowDriver();
+            driver.get(wikiUrl(ASHES_OF_WAR_PAGE_PATH));
 
             // Wait for page to load
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
@@ -53,7 +84,7 @@ public class AshesOfWarScraper extends BaseScraper {
             logger.info("Clicked 'Ashes of War Gallery' tab");
 
             // Wait for the tab content to be visible
-            Thread.sleep(1000); // Give time for the tab content to render
+            awaitReady(driver);
 
             // Find the tab content div
             WebElement tabContent = wait.until(ExpectedConditions.presenceOfElementLocated(
@@ -62,53 +93,72 @@ public class AshesOfWarScraper extends BaseScraper {
 
             logger.info("Found tab content, extracting Ashes of War items...");
 
-            // Find all gallery rows within the tab content
-            List<WebElement> rows = tabContent.findElements(By.cssSelector("div[class*='row'][class*='gallery']"));
-
-            for (WebElement row : rows) {
-                // Find all col divs within each row
-                List<WebElement> cols = row.findElements(By.cssSelector("div[class*='col']"));
-
-                for (WebElement col : cols) {
-                    try {
-                        // Find h4 element containing the title
-                        WebElement h4Element = col.findElement(By.tagName("h4"));
-                        String title = h4Element.getText().trim();
-
-                        // Find img element containing the image URL
-                        WebElement imgElement = col.findElement(By.tagName("img"));
-                        String imgSrc = imgElement.getAttribute("data-src");
-                        if (imgSrc == null || imgSrc.isEmpty()) {
-                            imgSrc = imgElement.getAttribute("src");
-                        }
-
-                        // Make sure image URL is absolute
-                        String fullImageUrl = imgSrc;
-                        if (imgSrc != null && imgSrc.startsWith("/")) {
-                            fullImageUrl = ApiConfig.getBaseUrl() + imgSrc;
-                        }
-
-                        if (title != null && !title.isEmpty() && fullImageUrl != null && !fullImageUrl.isEmpty()) {
-                            AshesOfWarBase ashOfWar = new AshesOfWarBase(title, fullImageUrl);
-                            ashesOfWar.add(ashOfWar);
-                            logger.fine("Scraped Ash of War: " + title + " with image: " + fullImageUrl);
-                        }
-
-                    } catch (Exception e) {
-                        logger.log(Level.WARNING, "Failed to extract Ash of War from col element", e);
-                    }
+            recordPage(driver, ASHES_OF_WAR_PAGE_PATH);
+
+            long extractStart = System.nanoTime();
+            if (getExtractionMode() == ExtractionMode.BULK_SCRIPT) {
+                streamCardsInBulk(driver, tabContent, "div[class*='row'][class*='gallery']", "div[class*='col']", "h4",
+                        card -> new AshesOfWarBase(card.getTitle(), card.getImage()), ashesOfWar, sink);
+            } else {
+                extractByWalkingElements(tabContent, ashesOfWar);
+                if (!ashesOfWar.isEmpty()) {
+                    sink.accept(List.copyOf(ashesOfWar));
                 }
             }
+            logExtractionTime(ashesOfWar.size(), extractStart);
 
             logger.info("Successfully scraped " + ashesOfWar.size() + " Ashes of War items");
 
         } catch (Exception e) {
             logger.log(Level.SEVERE, "Failed to scrape Ashes of War", e);
         } finally {
-            quitDriver(driver);
+            returnDriver(driver);
         }
 
         return ashesOfWar;
     }
+
+    /**
+     * Reads Ashes of War cards one WebDriver round trip at a time.
+     */
+    private void extractByWalkingElements(WebElement tabContent, List<AshesOfWarBase> ashesOfWar) {
+        // Find all gallery rows within the tab content
+        List<WebElement> rows = tabContent.findElements(By.cssSelector("div[class*='row'][class*='gallery']"));
+
+        for (WebElement row : rows) {
+            // Find all col divs within each row
+            List<WebElement> cols = row.findElements(By.cssSelector("div[class*='col']"));
+
+            for (WebElement col : cols) {
+                try {
+                    // Find h4 element containing the title
+                    WebElement h4Element = col.findElement(By.tagName("h4"));
+                    String title = h4Element.getText().trim();
+
+                    // Find img element containing the image URL
+                    WebElement imgElement = col.findElement(By.tagName("img"));
+                    String imgSrc = imgElement.getAttribute("data-src");
+                    if (imgSrc == null || imgSrc.isEmpty()) {
+                        imgSrc = imgElement.getAttribute("src");
+                    }
+
+                    // Make sure image URL is absolute
+                    String fullImageUrl = imgSrc;
+                    if (imgSrc != null && imgSrc.startsWith("/")) {
+                        fullImageUrl = ApiConfig.getSiteUrl() + imgSrc;
+                    }
+
+                    if (title != null && !title.isEmpty() && fullImageUrl != null && !fullImageUrl.isEmpty()) {
+                        AshesOfWarBase ashOfWar = new AshesOfWarBase(title, fullImageUrl);
+                        ashesOfWar.add(ashOfWar);
+                        logger.fine("Scraped Ash of War: " + title + " with image: " + fullImageUrl);
+                    }
+
+                } catch (Exception e) {
+                    logger.log(Level.WARNING, "Failed to extract Ash of War from col element", e);
+                }
+            }
+        }
+    }
 }
 
@@ -1,47 +1,277 @@
 package eldenring.poc.scrapers;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import eldenring.poc.config.ApiConfig;
+import eldenring.poc.config.ScraperConfig;
+import eldenring.poc.replay.PageReplay;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Abstract base scraper with common Selenium configuration.
- * Provides headless Chrome WebDriver setup.
+ * Headless Chrome sessions are borrowed from the shared {@link WebDriverPool}.
  */
 public abstract class BaseScraper {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<List<ScrapedCard>> CARD_LIST = new TypeReference<>() {};
+    private static final Map<String, LatencyHistogram> READINESS_WAITS = new ConcurrentHashMap<>();
+    private static final long INITIAL_POLL_MILLIS = 25;
+    private static final long MAX_POLL_MILLIS = 400;
+
+    /**
+     * Cards handed over per round trip when a gallery is streamed: two default pages, so the first page
+     * is available after the first call while the rest of the gallery is still being read.
+     */
+    private static final int STREAMING_CHUNK_SIZE = 40;
+
+    /**
+     * Collects (title, image) for the cols inside every row of the given roots in a single round trip.
+     * arguments: roots (element or array of elements), row selector, col selector, title selector (null = col text),
+     * number of cards to skip, maximum number of cards to return (negative = all).
+     * Returns {cards: [...], more: whether cards were left out because of the maximum}.
+     */
+    private static final String BULK_EXTRACTION_SCRIPT =
+            "var roots = Array.isArray(arguments[0]) ? arguments[0] : [arguments[0] || document];" +
+            "var rowSelector = arguments[1], colSelector = arguments[2], titleSelector = arguments[3];" +
+            "var offset = arguments[4], limit = arguments[5];" +
+            "var cards = [], index = 0, more = false;" +
+            "roots.forEach(function (root) {" +
+            "  root.querySelectorAll(rowSelector).forEach(function (row) {" +
+            "    row.querySelectorAll(colSelector).forEach(function (col) {" +
+            "      var titleElement = titleSelector ? col.querySelector(titleSelector) : col;" +
+            "      var img = col.querySelector('img');" +
+            "      if (!titleElement || !img || index++ < offset) { return; }" +
+            "      if (limit >= 0 && cards.length >= limit) { more = true; return; }" +
+            "      cards.push({title: titleElement.innerText, image: img.getAttribute('data-src') || img.getAttribute('src')});" +
+            "    });" +
+            "  });" +
+            "});" +
+            "return JSON.stringify({cards: cards, more: more});";
+
     protected final Logger logger;
+    private ExtractionMode extractionMode;
 
     protected BaseScraper(Logger logger) {
         this.logger = logger;
+        this.extractionMode = ExtractionMode.parse(
+                System.getProperty("eldenring.scraper." + getClass().getSimpleName() + ".extraction",
+                        System.getProperty("eldenring.scraper.extraction")),
+                ExtractionMode.BULK_SCRIPT);
+    }
+
+    /**
+     * Borrows a headless Chrome WebDriver from the shared pool.
+     *
+     * @return WebDriver instance that must be handed back with {@link #returnDriver(WebDriver)}
+     */
+    protected WebDriver borrowDriver() {
+        return WebDriverPool.shared().borrow();
     }
 
     /**
-     * Creates a configured headless Chrome WebDriver instance.
+     * Safely returns the WebDriver to the shared pool if it's not null.
      *
-     * @return Configured WebDriver instance
+     * @param driver WebDriver instance to return
      */
-    protected WebDriver createWebDriver() {
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--headless");
-        options.addArguments("--disable-gpu");
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        options.addArguments("--window-size=1920,1080");
+    protected void returnDriver(WebDriver driver) {
+        WebDriverPool.shared().release(driver);
+    }
 
-        return new ChromeDriver(options);
+    /**
+     * Describes when the page loaded by this scraper is ready to be read.
+     * Called once per scrape, so stateful conditions start fresh every time.
+     *
+     * @return Readiness condition for this scraper's page
+     */
+    protected ReadyCondition readyCondition() {
+        return ReadyCondition.documentComplete();
     }
 
     /**
-     * Safely quits the WebDriver if it's not null.
+     * Polls {@link #readyCondition()} with exponential backoff until it holds or the readiness timeout
+     * elapses, and records the time actually waited in this scraper's histogram.
+     * A timeout is logged but not fatal: extraction proceeds with whatever is on the page.
      *
-     * @param driver WebDriver instance to quit
+     * @param driver Driver with the page loaded
      */
-    protected void quitDriver(WebDriver driver) {
-        if (driver != null) {
-            driver.quit();
+    protected void awaitReady(WebDriver driver) throws InterruptedException {
+        ReadyCondition condition = readyCondition();
+        long start = System.nanoTime();
+        long deadline = start + ScraperConfig.getReadinessTimeout().toNanos();
+        long pollMillis = INITIAL_POLL_MILLIS;
+        boolean ready = false;
+
+        while (true) {
+            try {
+                ready = condition.isReady(driver);
+            } catch (Exception e) {
+                logger.log(Level.FINER, "Readiness check failed, retrying", e);
+            }
+            if (ready || System.nanoTime() >= deadline) {
+                break;
+            }
+            Thread.sleep(pollMillis);
+            pollMillis = Math.min(pollMillis * 2, MAX_POLL_MILLIS);
+        }
+
+        long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        LatencyHistogram histogram = READINESS_WAITS.computeIfAbsent(getClass().getSimpleName(), k -> new LatencyHistogram());
+        histogram.record(waitedMs);
+
+        if (ready) {
+            logger.info("Page ready after " + waitedMs + " ms (" + histogram + ")");
+        } else {
+            logger.warning("Page not ready after " + waitedMs + " ms, extracting anyway");
         }
     }
-}
 
+    /**
+     * @return Snapshot of readiness wait histograms keyed by scraper class name
+     */
+    public static Map<String, LatencyHistogram> getReadinessHistograms() {
+        return Collections.unmodifiableMap(new TreeMap<>(READINESS_WAITS));
+    }
+
+    public ExtractionMode getExtractionMode() {
+        return extractionMode;
+    }
+
+    /**
+     * Selects how gallery cards are read from the page. Scrapers without a bulk path always walk elements.
+     *
+     * @param extractionMode Mode to use for subsequent scrapes
+     */
+    public void setExtractionMode(ExtractionMode extractionMode) {
+        this.extractionMode = extractionMode;
+    }
+
+    /**
+     * Extracts every gallery card below the given roots with a single executeScript call.
+     * Titles are trimmed, image URLs made absolute, and incomplete cards dropped.
+     *
+     * @param driver Driver with the page loaded
+     * @param roots A WebElement, a list of WebElements, or null for the whole document
+     * @param rowSelector CSS selector for rows, relative to each root
+     * @param colSelector CSS selector for cards, relative to each row
+     * @param titleSelector CSS selector for the title inside a card, or null to use the card text
+     * @return Extracted cards in document order
+     */
+    protected List<ScrapedCard> extractCardsInBulk(WebDriver driver, Object roots, String rowSelector,
+                                                   String colSelector, String titleSelector) throws Exception {
+        List<ScrapedCard> cards = new ArrayList<>();
+        extractChunk(driver, roots, rowSelector, colSelector, titleSelector, 0, -1, cards);
+        return cards;
+    }
+
+    /**
+     * Extracts the gallery cards like {@link #extractCardsInBulk}, but {@value #STREAMING_CHUNK_SIZE} cards per
+     * executeScript call, handing the models of each chunk to the sink as soon as the call returns.
+     * The gallery is fully rendered before extraction starts, so the chunks line up across calls.
+     *
+     * @param driver Driver with the page loaded
+     * @param roots A WebElement, a list of WebElements, or null for the whole document
+     * @param rowSelector CSS selector for rows, relative to each root
+     * @param colSelector CSS selector for cards, relative to each row
+     * @param titleSelector CSS selector for the title inside a card, or null to use the card text
+     * @param toModel Creates the model of a card
+     * @param items Receives every model, in document order
+     * @param sink Receives the models of each chunk
+     */
+    protected <T> void streamCardsInBulk(WebDriver driver, Object roots, String rowSelector, String colSelector,
+                                         String titleSelector, Function<ScrapedCard, T> toModel, List<T> items,
+                                         Consumer<List<T>> sink) throws Exception {
+        int offset = 0;
+        boolean more = true;
+        while (more) {
+            List<ScrapedCard> cards = new ArrayList<>(STREAMING_CHUNK_SIZE);
+            more = extractChunk(driver, roots, rowSelector, colSelector, titleSelector, offset, STREAMING_CHUNK_SIZE, cards);
+            offset += STREAMING_CHUNK_SIZE;
+
+            List<T> batch = new ArrayList<>(cards.size());
+            for (ScrapedCard card : cards) {
+                batch.add(toModel.apply(card));
+            }
+            if (!batch.isEmpty()) {
+                items.addAll(batch);
+                sink.accept(List.copyOf(batch));
+            }
+        }
+    }
+
+    /**
+     * Runs the bulk extraction script once and adds the complete cards it returned.
+     *
+     * @return Whether the script left cards out because of the limit
+     */
+    private boolean extractChunk(WebDriver driver, Object roots, String rowSelector, String colSelector,
+                                 String titleSelector, int offset, int limit, List<ScrapedCard> cards) throws Exception {
+        Object json = ((JavascriptExecutor) driver).executeScript(
+                BULK_EXTRACTION_SCRIPT, roots, rowSelector, colSelector, titleSelector, offset, limit);
+        if (json == null) {
+            return false;
+        }
+
+        JsonNode result = MAPPER.readTree(json.toString());
+        for (ScrapedCard raw : MAPPER.convertValue(result.path("cards"), CARD_LIST)) {
+            String title = raw.getTitle() == null ? "" : raw.getTitle().trim();
+            String image = toAbsoluteUrl(raw.getImage());
+            if (!title.isEmpty() && image != null && !image.isEmpty()) {
+                cards.add(new ScrapedCard(title, image));
+            }
+        }
+        return result.path("more").asBoolean(false);
+    }
+
+    /**
+     * Resolves a wiki page path against the current base URL. Called on every scrape rather than
+     * stored in a constant, because the base URL can change at runtime (e.g. to the replay server).
+     *
+     * @param pagePath Path of the page, e.g. "/Armor"
+     * @return Absolute page URL
+     */
+    protected static String wikiUrl(String pagePath) {
+        return ApiConfig.getBaseUrl() + pagePath;
+    }
+
+    /**
+     * Saves the page as currently rendered (including any tab opened by the scraper) when pages are being recorded.
+     *
+     * @param driver Driver with the page loaded
+     * @param pagePath Path of the page, e.g. "/Armor"
+     */
+    protected void recordPage(WebDriver driver, String pagePath) {
+        PageReplay.record(pagePath, driver::getPageSource);
+    }
+
+    /**
+     * Prefixes site-relative image paths with the wiki base URL.
+     */
+    protected String toAbsoluteUrl(String src) {
+        if (src != null && src.startsWith("/")) {
+            return ApiConfig.getSiteUrl() + src;
+        }
+        return src;
+    }
+
+    /**
+     * Logs how long the extraction phase took so both modes can be compared.
+     */
+    protected void logExtractionTime(int itemCount, long startNanos) {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        logger.info("Extracted " + itemCount + " items in " + elapsedMs + " ms using " + extractionMode);
+    }
+}
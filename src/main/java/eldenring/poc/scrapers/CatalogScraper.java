@@ -0,0 +1,36 @@
+package eldenring.poc.scrapers;
+
+import eldenring.poc.models.BaseModel;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Common contract for every scraping engine (headless browser or static HTML).
+ *
+ * @param <T> The model type produced by the scraper
+ */
+public interface CatalogScraper<T extends BaseModel> {
+
+    /**
+     * Scrapes the whole category.
+     *
+     * @return Scraped items, or an empty list if nothing could be extracted
+     */
+    List<T> scrape();
+
+    /**
+     * Scrapes the whole category, handing items to the sink as soon as they are extracted.
+     * Engines that extract everything at once hand the whole category over in one batch.
+     *
+     * @param sink Receives batches of extracted items, in category order
+     * @return Scraped items, or an empty list if nothing could be extracted
+     */
+    default List<T> scrape(Consumer<List<T>> sink) {
+        List<T> items = scrape();
+        if (!items.isEmpty()) {
+            sink.accept(items);
+        }
+        return items;
+    }
+}
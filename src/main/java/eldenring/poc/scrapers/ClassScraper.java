@@ -14,72 +14,102 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-public class ClassScraper extends BaseScraper {
+public class ClassScraper extends BaseScraper implements CatalogScraper<ClassBase> {
     private static final Logger LOGGER = Logger.getLogger(ClassScraper.class.getName());
-    private static final String CLASS_PAGE_URL = ApiConfig.getBaseUrl() + "/Classes";
+    private static final String CLASS_PAGE_PATH = "/Classes";
 
     public ClassScraper() {
         super(LOGGER);
     }
 
+    @Override
+    public List<ClassBase> scrape() {
+        return scrapeClasses();
+    }
+
+    /**
+     * Ready once the class cards have stopped appearing.
+     */
+    @Override
+    protected ReadyCondition readyCondition() {
+        return ReadyCondition.stableCount(By.cssSelector("div.row div.col-sm-3"), 2);
+    }
+
     public List<ClassBase> scrapeClasses() {
         List<ClassBase> classes = new ArrayList<>();
         WebDriver driver = null;
 
         try {
-            logger.info("Starting class scraping from: " + CLASS_PAGE_URL);
+            logger.info("Starting class scraping from: " + wikiUrl(CLASS_PAGE_PATH));
 
-            driver = createWebDriver();
-            driver.get(CLASS_PAGE_URL);
+            driver = borrowDriver();
+            driver.get(wikiUrl(CLASS_PAGE_PATH));
 
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
 
             wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("div.row")));
 
-            Thread.sleep(1000);
-
-            List<WebElement> rows = driver.findElements(By.cssSelector("div.row"));
-
-            for (WebElement row : rows) {
-                List<WebElement> cols = row.findElements(By.cssSelector("div.col-sm-3"));
+            awaitReady(driver);
 
-                for (WebElement col : cols) {
-                    try {
-                        WebElement h3Element = col.findElement(By.tagName("h3"));
-                        String title = h3Element.getText().trim();
+            recordPage(driver, CLASS_PAGE_PATH);
 
-                        WebElement imgElement = col.findElement(By.tagName("img"));
-                        String imgSrc = imgElement.getAttribute("data-src");
-                        if (imgSrc == null || imgSrc.isEmpty()) {
-                            imgSrc = imgElement.getAttribute("src");
-                        }
-
-                        String fullImageUrl = imgSrc;
-                        if (imgSrc != null && imgSrc.startsWith("/")) {
-                            fullImageUrl = ApiConfig.getBaseUrl() + imgSrc;
-                        }
-
-                        if (title != null && !title.isEmpty() && fullImageUrl != null && !fullImageUrl.isEmpty()) {
-                            ClassBase classItem = new ClassBase(title, fullImageUrl);
-                            classes.add(classItem);
-                            logger.fine("Scraped class: " + title + " with image: " + fullImageUrl);
-                        }
-
-                    } catch (Exception e) {
-                        logger.log(Level.WARNING, "Failed to extract class from col element", e);
-                    }
+            long extractStart = System.nanoTime();
+            if (getExtractionMode() == ExtractionMode.BULK_SCRIPT) {
+                for (ScrapedCard card : extractCardsInBulk(driver, null, "div.row", "div.col-sm-3", "h3")) {
+                    classes.add(new ClassBase(card.getTitle(), card.getImage()));
                 }
+            } else {
+                extractByWalkingElements(driver, classes);
             }
+            logExtractionTime(classes.size(), extractStart);
 
             logger.info("Successfully scraped " + classes.size() + " class items");
 
         } catch (Exception e) {
             logger.log(Level.SEVERE, "Failed to scrape classes", e);
         } finally {
-            quitDriver(driver);
+            returnDriver(driver);
         }
 
         return classes;
     }
+
+    /**
+     * Reads class cards one WebDriver round trip at a time.
+     */
+    private void extractByWalkingElements(WebDriver driver, List<ClassBase> classes) {
+        List<WebElement> rows = driver.findElements(By.cssSelector("div.row"));
+
+        for (WebElement row : rows) {
+            List<WebElement> cols = row.findElements(By.cssSelector("div.col-sm-3"));
+
+            for (WebElement col : cols) {
+                try {
+                    WebElement h3Element = col.findElement(By.tagName("h3"));
+                    String title = h3Element.getText().trim();
+
+                    WebElement imgElement = col.findElement(By.tagName("img"));
+                    String imgSrc = imgElement.getAttribute("data-src");
+                    if (imgSrc == null || imgSrc.isEmpty()) {
+                        imgSrc = imgElement.getAttribute("src");
+                    }
+
+                    String fullImageUrl = imgSrc;
+                    if (imgSrc != null && imgSrc.startsWith("/")) {
+                        fullImageUrl = ApiConfig.getSiteUrl() + imgSrc;
+                    }
+
+                    if (title != null && !title.isEmpty() && fullImageUrl != null && !fullImageUrl.isEmpty()) {
+                        ClassBase classItem = new ClassBase(title, fullImageUrl);
+                        classes.add(classItem);
+                        logger.fine("Scraped class: " + title + " with image: " + fullImageUrl);
+                    }
+
+                } catch (Exception e) {
+                    logger.log(Level.WARNING, "Failed to extract class from col element", e);
+                }
+            }
+        }
+    }
 }
 
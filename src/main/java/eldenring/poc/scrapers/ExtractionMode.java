@@ -0,0 +1,30 @@
+package eldenring.poc.scrapers;
+
+/**
+ * Strategy used by gallery scrapers to read card data out of the rendered page.
+ */
+public enum ExtractionMode {
+    /**
+     * Walks the DOM with findElement/getText/getAttribute calls, one WebDriver round trip each.
+     */
+    ELEMENT_WALK,
+
+    /**
+     * Runs a single executeScript per page that returns every (title, image) tuple as a JSON array.
+     */
+    BULK_SCRIPT;
+
+    /**
+     * Parses a mode name, falling back to the given default for null or unknown values.
+     */
+    static ExtractionMode parse(String value, ExtractionMode fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return ExtractionMode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+}
@@ -11,26 +11,57 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-public class IncantationScraper extends BaseScraper {
+public class IncantationScraper extends BaseScraper implements CatalogScraper<IncantationBase> {
     private static final Logger LOGGER = Logger.getLogger(IncantationScraper.class.getName());
-    private static final String INCANTATION_PAGE_URL = ApiConfig.getBaseUrl() + "/Incantations";
+    private static final String INCANTATION_PAGE_PATH = "/Incantations";
 
     public IncantationScraper() {
         super(LOGGER);
     }
 
+    @Override
+    public List<IncantationBase> scrape() {
+        return scrapeIncantations();
+    }
+
+    @Override
+    public List<IncantationBase> scrape(Consumer<List<IncantationBase>> sink) {
+        return scrapeIncantations(sink);
+    }
+
+    /**
+     * Ready once the "by Type" tab is visible and its images have stopped appearing.
+     */
+    @Override
+    protected ReadyCondition readyCondition() {
+        return ReadyCondition.visible(By.cssSelector("div[class*='tabcontent 2-tab']"))
+                .and(ReadyCondition.stableCount(By.cssSelector("div[class*='tabcontent 2-tab'] img"), 2));
+    }
+
     public List<IncantationBase> scrapeIncantations() {
+        return scrapeIncantations(batch -> { });
+    }
+
+    /**
+     * Scrapes all incantations, handing them to the sink as they are extracted: a chunk of cards per script call
+     * with the bulk script, all at once when walking elements.
+     *
+     * @param sink Receives batches of extracted incantations, in page order
+     * @return List of IncantationBase objects containing title and image URL
+     */
+    public List<IncantationBase> scrapeIncantations(Consumer<List<IncantationBase>> sink) {
         List<IncantationBase> incantations = new ArrayList<>();
         WebDriver driver = null;
 
         try {
-            logger.info("Starting incantation scraping from: " + INCANTATION_PAGE_URL);
+            logger.info("Starting incantation scraping from: " + wikiUrl(INCANTATION_PAGE_PATH));
 
-            driver = createWebDriver();
-            driver.get(INCANTATION_PAGE_URL);
+            driver = borrowDriver();
+            driver.get(wikiUrl(INCANTATION_PAGE_PATH));
 
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
 
@@ -41,53 +72,72 @@ public class IncantationScraper extends BaseScraper {
             LOGGER.info("Found 'Incantations by Type' tab, clicking...");
             typeTab.click();
 
-            Thread.sleep(1000);
+            awaitReady(driver);
 
-            List<WebElement> wikiTables = driver.findElements(By.cssSelector("div[class*='tabcontent 2-tab']"));
+            recordPage(driver, INCANTATION_PAGE_PATH);
 
-            for (WebElement wikiTable : wikiTables) {
-                List<WebElement> rows = wikiTable.findElements(By.cssSelector("div[class*='row']"));
-
-                for (WebElement row : rows) {
-                    List<WebElement> cols = row.findElements(By.cssSelector("div[class*='col']"));
-
-                    for (WebElement col : cols) {
-                        try {
-                            String title = col.getText().trim();
-
-                            WebElement imgElement = col.findElement(By.tagName("img"));
-                            String imgSrc = imgElement.getAttribute("data-src");
-                            if (imgSrc == null || imgSrc.isEmpty()) {
-                                imgSrc = imgElement.getAttribute("src");
-                            }
-
-                            String fullImageUrl = imgSrc;
-                            if (imgSrc != null && imgSrc.startsWith("/")) {
-                                fullImageUrl = ApiConfig.getBaseUrl() + imgSrc;
-                            }
-
-                            if (title != null && !title.isEmpty() && fullImageUrl != null && !fullImageUrl.isEmpty()) {
-                                IncantationBase incantation = new IncantationBase(title, fullImageUrl);
-                                incantations.add(incantation);
-                                logger.fine("Scraped incantation: " + title + " with image: " + fullImageUrl);
-                            }
-
-                        } catch (Exception e) {
-                            logger.log(Level.WARNING, "Failed to extract incantation from col element", e);
-                        }
-                    }
+            long extractStart = System.nanoTime();
+            if (getExtractionMode() == ExtractionMode.BULK_SCRIPT) {
+                streamCardsInBulk(driver, null, "div[class*='tabcontent 2-tab'] div[class*='row']", "div[class*='col']", null,
+                        card -> new IncantationBase(card.getTitle(), card.getImage()), incantations, sink);
+            } else {
+                extractByWalkingElements(driver, incantations);
+                if (!incantations.isEmpty()) {
+                    sink.accept(List.copyOf(incantations));
                 }
             }
+            logExtractionTime(incantations.size(), extractStart);
 
             logger.info("Successfully scraped " + incantations.size() + " incantation items");
 
         } catch (Exception e) {
             logger.log(Level.SEVERE, "Failed to scrape incantations", e);
         } finally {
-            quitDriver(driver);
+            returnDriver(driver);
         }
 
         return incantations;
     }
+
+    /**
+     * Reads incantation cards one WebDriver round trip at a time.
+     */
+    private void extractByWalkingElements(WebDriver driver, List<IncantationBase> incantations) {
+        List<WebElement> wikiTables = driver.findElements(By.cssSelector("div[class*='tabcontent 2-tab']"));
+
+        for (WebElement wikiTable : wikiTables) {
+            List<WebElement> rows = wikiTable.findElements(By.cssSelector("div[class*='row']"));
+
+            for (WebElement row : rows) {
+                List<WebElement> cols = row.findElements(By.cssSelector("div[class*='col']"));
+
+                for (WebElement col : cols) {
+                    try {
+                        String title = col.getText().trim();
+
+                        WebElement imgElement = col.findElement(By.tagName("img"));
+                        String imgSrc = imgElement.getAttribute("data-src");
+                        if (imgSrc == null || imgSrc.isEmpty()) {
+                            imgSrc = imgElement.getAttribute("src");
+                        }
+
+                        String fullImageUrl = imgSrc;
+                        if (imgSrc != null && imgSrc.startsWith("/")) {
+                            fullImageUrl = ApiConfig.getSiteUrl() + imgSrc;
+                        }
+
+                        if (title != null && !title.isEmpty() && fullImageUrl != null && !fullImageUrl.isEmpty()) {
+                            IncantationBase incantation = new IncantationBase(title, fullImageUrl);
+                            incantations.add(incantation);
+                            logger.fine("Scraped incantation: " + title + " with image: " + fullImageUrl);
+                        }
+
+                    } catch (Exception e) {
+                        logger.log(Level.WARNING, "Failed to extract incantation from col element", e);
+                    }
+                }
+            }
+        }
+    }
 }
 
@@ -16,23 +16,28 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-public class ItemScraper extends BaseScraper {
+public class ItemScraper extends BaseScraper implements CatalogScraper<ItemBase> {
     private static final Logger LOGGER = Logger.getLogger(ItemScraper.class.getName());
-    private static final String ITEM_PAGE_URL = ApiConfig.getBaseUrl() + "/Items";
+    private static final String ITEM_PAGE_PATH = "/Items";
 
     public ItemScraper() {
         super(LOGGER);
     }
 
+    @Override
+    public List<ItemBase> scrape() {
+        return scrapeItems();
+    }
+
     public List<ItemBase> scrapeItems() {
         List<ItemBase> items = new ArrayList<>();
         WebDriver driver = null;
 
         try {
-            logger.info("Starting item scraping from: " + ITEM_PAGE_URL);
+            logger.info("Starting item scraping from: " + wikiUrl(ITEM_PAGE_PATH));
 
-            driver = createWebDriver();
-            driver.get(ITEM_PAGE_URL);
+            driver = borrowDriver();
+            driver.get(wikiUrl(ITEM_PAGE_PATH));
 
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
 
@@ -63,6 +68,8 @@ public class ItemScraper extends BaseScraper {
                 return items;
             }
 
+            recordPage(driver, ITEM_PAGE_PATH);
+
             List<WebElement> rows = table.findElements(By.tagName("tr"));
             logger.info("Found " + rows.size() + " table rows (including header rows)");
 
@@ -91,7 +98,7 @@ public class ItemScraper extends BaseScraper {
 
                     String fullImageUrl = imgSrc;
                     if (imgSrc.startsWith("/")) {
-                        fullImageUrl = ApiConfig.getBaseUrl() + imgSrc;
+                        fullImageUrl = ApiConfig.getSiteUrl() + imgSrc;
                     }
 
                     if (title.isEmpty() || fullImageUrl.isEmpty()) {
@@ -117,7 +124,7 @@ public class ItemScraper extends BaseScraper {
         } catch (Exception e) {
             logger.log(Level.SEVERE, "Failed to scrape items", e);
         } finally {
-            quitDriver(driver);
+            returnDriver(driver);
         }
 
         return items;
@@ -0,0 +1,70 @@
+package eldenring.poc.scrapers;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with power-of-two millisecond buckets.
+ * Bucket 0 holds 0 ms, bucket i holds [2^(i-1), 2^i) ms, and the last bucket holds everything above.
+ */
+public class LatencyHistogram {
+    private static final int BUCKETS = 18;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalMillis = new AtomicLong();
+    private final AtomicLong maxMillis = new AtomicLong();
+
+    public void record(long millis) {
+        long value = Math.max(0, millis);
+        int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value));
+        buckets.incrementAndGet(bucket);
+        count.incrementAndGet();
+        totalMillis.addAndGet(value);
+        maxMillis.accumulateAndGet(value, Math::max);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMaxMillis() {
+        return maxMillis.get();
+    }
+
+    public double getMeanMillis() {
+        long n = count.get();
+        return n == 0 ? 0 : (double) totalMillis.get() / n;
+    }
+
+    /**
+     * Returns the upper bound of the bucket containing the given percentile.
+     *
+     * @param percentile Value between 0 and 100
+     * @return Upper bound in milliseconds, or 0 if nothing was recorded
+     */
+    public long getPercentileMillis(double percentile) {
+        long n = count.get();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(n * Math.min(100, Math.max(0, percentile)) / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return i == BUCKETS - 1 ? getMaxMillis() : (1L << i) - 1;
+            }
+        }
+        return getMaxMillis();
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + getCount()
+                + ", mean=" + String.format("%.1f", getMeanMillis()) + "ms"
+                + ", p50<=" + getPercentileMillis(50) + "ms"
+                + ", p95<=" + getPercentileMillis(95) + "ms"
+                + ", max=" + getMaxMillis() + "ms";
+    }
+}
@@ -0,0 +1,70 @@
+package eldenring.poc.scrapers;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+/**
+ * Describes when a scraped page is ready to be read.
+ * Conditions are polled by {@link BaseScraper#awaitReady(WebDriver)} until they hold or time out.
+ * Some conditions keep state between polls, so a new instance must be created for every scrape.
+ */
+@FunctionalInterface
+public interface ReadyCondition {
+
+    /**
+     * @param driver Driver with the page loaded
+     * @return true once the page can be read
+     */
+    boolean isReady(WebDriver driver);
+
+    /**
+     * @return Condition that holds when this one and the other both hold
+     */
+    default ReadyCondition and(ReadyCondition other) {
+        return driver -> isReady(driver) && other.isReady(driver);
+    }
+
+    /**
+     * Ready once the browser reports the document as fully loaded.
+     */
+    static ReadyCondition documentComplete() {
+        return driver -> "complete".equals(((JavascriptExecutor) driver).executeScript("return document.readyState"));
+    }
+
+    /**
+     * Ready once the first element matching the locator is displayed, e.g. a tab that was just clicked.
+     */
+    static ReadyCondition visible(By locator) {
+        return driver -> {
+            List<WebElement> elements = driver.findElements(locator);
+            return !elements.isEmpty() && elements.get(0).isDisplayed();
+        };
+    }
+
+    /**
+     * Ready once at least one element matches the locator and the match count has not changed
+     * for the given number of consecutive polls, i.e. the gallery has stopped growing.
+     */
+    static ReadyCondition stableCount(By locator, int requiredStablePolls) {
+        return new ReadyCondition() {
+            private int lastCount = -1;
+            private int stablePolls;
+
+            @Override
+            public boolean isReady(WebDriver driver) {
+                int count = driver.findElements(locator).size();
+                if (count > 0 && count == lastCount) {
+                    stablePolls++;
+                } else {
+                    stablePolls = 0;
+                }
+                lastCount = count;
+                return stablePolls >= requiredStablePolls;
+            }
+        };
+    }
+}
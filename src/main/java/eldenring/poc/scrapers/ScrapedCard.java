@@ -0,0 +1,40 @@
+package eldenring.poc.scrapers;
+
+/**
+ * Raw (title, image) tuple returned by the bulk extraction script.
+ */
+public class ScrapedCard {
+    private String title;
+    private String image;
+
+    public ScrapedCard() {}
+
+    public ScrapedCard(String title, String image) {
+        this.title = title;
+        this.image = image;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getImage() {
+        return image;
+    }
+
+    public void setImage(String image) {
+        this.image = image;
+    }
+
+    @Override
+    public String toString() {
+        return "ScrapedCard{" +
+                "title='" + title + '\'' +
+                ", image='" + image + '\'' +
+                '}';
+    }
+}
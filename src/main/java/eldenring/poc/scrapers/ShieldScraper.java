@@ -11,25 +11,40 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-public class ShieldScraper extends BaseScraper {
+public class ShieldScraper extends BaseScraper implements CatalogScraper<ShieldBase> {
     private static final Logger LOGGER = Logger.getLogger(ShieldScraper.class.getName());
-    private static final String SHIELD_PAGE_URL = ApiConfig.getBaseUrl() + "/Shields";
+    private static final String SHIELD_PAGE_PATH = "/Shields";
 
     public ShieldScraper() {
         super(LOGGER);
     }
 
+    @Override
+    public List<ShieldBase> scrape() {
+        return scrapeShields();
+    }
+
+    /**
+     * Ready once the shield cards have stopped appearing.
+     */
+    @Override
+    protected ReadyCondition readyCondition() {
+        return ReadyCondition.stableCount(By.cssSelector("div.row div.col-xs-6.col-sm-2"), 2);
+    }
+
     public List<ShieldBase> scrapeShields() {
         List<ShieldBase> shields = new ArrayList<>();
         WebDriver driver = null;
 
         try {
-            logger.info("Starting shield scraping from: " + SHIELD_PAGE_URL);
+            logger.info("Starting shield scraping from: " + wikiUrl(SHIELD_PAGE_PATH));
+
+            driver = borrowDriver();
+            driver.get(wikiUrl(SHIELD_PAGE_PATH));
 
-            driver = createWebDriver();
-            driver.get(SHIELD_PAGE_URL);
+            awaitReady(driver);
 
-            Thread.sleep(1000);
+            recordPage(driver, SHIELD_PAGE_PATH);
 
             List<WebElement> rows = driver.findElements(By.cssSelector("div.row"));
 
@@ -63,7 +78,7 @@ public class ShieldScraper extends BaseScraper {
 
                         String fullImageUrl = imgSrc;
                         if (imgSrc != null && imgSrc.startsWith("/")) {
-                            fullImageUrl = ApiConfig.getBaseUrl() + imgSrc;
+                            fullImageUrl = ApiConfig.getSiteUrl() + imgSrc;
                         }
 
                         if (!title.isEmpty() && fullImageUrl != null && !fullImageUrl.isEmpty()) {
@@ -83,7 +98,7 @@ public class ShieldScraper extends BaseScraper {
         } catch (Exception e) {
             logger.log(Level.SEVERE, "Failed to scrape shields", e);
         } finally {
-            quitDriver(driver);
+            returnDriver(driver);
         }
 
         return shields;
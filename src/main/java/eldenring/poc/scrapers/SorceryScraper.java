@@ -11,26 +11,56 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-public class SorceryScraper extends BaseScraper {
+public class SorceryScraper extends BaseScraper implements CatalogScraper<SorceryBase> {
     private static final Logger LOGGER = Logger.getLogger(SorceryScraper.class.getName());
-    private static final String SORCERY_PAGE_URL = ApiConfig.getBaseUrl() + "/Sorceries";
+    private static final String SORCERY_PAGE_PATH = "/Sorceries";
 
     public SorceryScraper() {
         super(LOGGER);
     }
 
+    @Override
+    public List<SorceryBase> scrape() {
+        return scrapeSorceries();
+    }
+
+    @Override
+    public List<SorceryBase> scrape(Consumer<List<SorceryBase>> sink) {
+        return scrapeSorceries(sink);
+    }
+
+    /**
+     * Ready once the sorcery cards of the clicked tab have stopped appearing.
+     */
+    @Override
+    protected ReadyCondition readyCondition() {
+        return ReadyCondition.stableCount(By.cssSelector("div.row div[class*='col-sm-3'] img"), 2);
+    }
+
     public List<SorceryBase> scrapeSorceries() {
+        return scrapeSorceries(batch -> { });
+    }
+
+    /**
+     * Scrapes all sorceries, handing them to the sink as they are extracted: a chunk of cards per script call
+     * with the bulk script, all at once when walking elements.
+     *
+     * @param sink Receives batches of extracted sorceries, in page order
+     * @return List of SorceryBase objects containing title and image URL
+     */
+    public List<SorceryBase> scrapeSorceries(Consumer<List<SorceryBase>> sink) {
         List<SorceryBase> sorceries = new ArrayList<>();
         WebDriver driver = null;
 
         try {
-            logger.info("Starting sorcery scraping from: " + SORCERY_PAGE_URL);
+            logger.info("Starting sorcery scraping from: " + wikiUrl(SORCERY_PAGE_PATH));
 
-            driver = createWebDriver();
-            driver.get(SORCERY_PAGE_URL);
+            driver = borrowDriver();
+            driver.get(wikiUrl(SORCERY_PAGE_PATH));
 
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
 
@@ -41,49 +71,68 @@ public class SorceryScraper extends BaseScraper {
             LOGGER.info("Found 'Sorceries by Type' tab, clicking...");
             typeTab.click();
 
-            Thread.sleep(1000);
-
-            List<WebElement> rows = driver.findElements(By.cssSelector("div.row"));
-
-            for (WebElement row : rows) {
-                List<WebElement> cols = row.findElements(By.cssSelector("div[class*='col-sm-3']"));
-
-                for (WebElement col : cols) {
-                    try {
-                        String title = col.getText().trim();
+            awaitReady(driver);
 
-                        WebElement imgElement = col.findElement(By.tagName("img"));
-                        String imgSrc = imgElement.getAttribute("data-src");
-                        if (imgSrc == null || imgSrc.isEmpty()) {
-                            imgSrc = imgElement.getAttribute("src");
-                        }
+            recordPage(driver, SORCERY_PAGE_PATH);
 
-                        String fullImageUrl = imgSrc;
-                        if (imgSrc != null && imgSrc.startsWith("/")) {
-                            fullImageUrl = ApiConfig.getBaseUrl() + imgSrc;
-                        }
-
-                        if (title != null && !title.isEmpty() && fullImageUrl != null && !fullImageUrl.isEmpty()) {
-                            SorceryBase sorcery = new SorceryBase(title, fullImageUrl);
-                            sorceries.add(sorcery);
-                            logger.fine("Scraped sorcery: " + title + " with image: " + fullImageUrl);
-                        }
-
-                    } catch (Exception e) {
-                        logger.log(Level.WARNING, "Failed to extract sorcery from col element", e);
-                    }
+            long extractStart = System.nanoTime();
+            if (getExtractionMode() == ExtractionMode.BULK_SCRIPT) {
+                streamCardsInBulk(driver, null, "div.row", "div[class*='col-sm-3']", null,
+                        card -> new SorceryBase(card.getTitle(), card.getImage()), sorceries, sink);
+            } else {
+                extractByWalkingElements(driver, sorceries);
+                if (!sorceries.isEmpty()) {
+                    sink.accept(List.copyOf(sorceries));
                 }
             }
+            logExtractionTime(sorceries.size(), extractStart);
 
             logger.info("Successfully scraped " + sorceries.size() + " sorcery items");
 
         } catch (Exception e) {
             logger.log(Level.SEVERE, "Failed to scrape sorceries", e);
         } finally {
-            quitDriver(driver);
+            returnDriver(driver);
         }
 
         return sorceries;
     }
+
+    /**
+     * Reads sorcery cards one WebDriver round trip at a time.
+     */
+    private void extractByWalkingElements(WebDriver driver, List<SorceryBase> sorceries) {
+        List<WebElement> rows = driver.findElements(By.cssSelector("div.row"));
+
+        for (WebElement row : rows) {
+            List<WebElement> cols = row.findElements(By.cssSelector("div[class*='col-sm-3']"));
+
+            for (WebElement col : cols) {
+                try {
+                    String title = col.getText().trim();
+
+                    WebElement imgElement = col.findElement(By.tagName("img"));
+                    String imgSrc = imgElement.getAttribute("data-src");
+                    if (imgSrc == null || imgSrc.isEmpty()) {
+                        imgSrc = imgElement.getAttribute("src");
+                    }
+
+                    String fullImageUrl = imgSrc;
+                    if (imgSrc != null && imgSrc.startsWith("/")) {
+                        fullImageUrl = ApiConfig.getSiteUrl() + imgSrc;
+                    }
+
+                    if (title != null && !title.isEmpty() && fullImageUrl != null && !fullImageUrl.isEmpty()) {
+                        SorceryBase sorcery = new SorceryBase(title, fullImageUrl);
+                        sorceries.add(sorcery);
+                        logger.fine("Scraped sorcery: " + title + " with image: " + fullImageUrl);
+                    }
+
+                } catch (Exception e) {
+                    logger.log(Level.WARNING, "Failed to extract sorcery from col element", e);
+                }
+            }
+        }
+    }
 }
 
@@ -11,26 +11,56 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-public class SpiritScraper extends BaseScraper {
+public class SpiritScraper extends BaseScraper implements CatalogScraper<SpiritBase> {
     private static final Logger LOGGER = Logger.getLogger(SpiritScraper.class.getName());
-    private static final String SPIRIT_PAGE_URL = ApiConfig.getBaseUrl() + "/Spirit+Ashes";
+    private static final String SPIRIT_PAGE_PATH = "/Spirit+Ashes";
 
     public SpiritScraper() {
         super(LOGGER);
     }
 
+    @Override
+    public List<SpiritBase> scrape() {
+        return scrapeSpirits();
+    }
+
+    @Override
+    public List<SpiritBase> scrape(Consumer<List<SpiritBase>> sink) {
+        return scrapeSpirits(sink);
+    }
+
+    /**
+     * Ready once the spirit gallery images have stopped appearing.
+     */
+    @Override
+    protected ReadyCondition readyCondition() {
+        return ReadyCondition.stableCount(By.cssSelector("div[class*='tabcontent'] div[class*='row'] img"), 2);
+    }
+
     public List<SpiritBase> scrapeSpirits() {
+        return scrapeSpirits(batch -> { });
+    }
+
+    /**
+     * Scrapes all spirits, handing them to the sink as they are extracted: a chunk of cards per script call
+     * with the bulk script, all at once when walking elements.
+     *
+     * @param sink Receives batches of extracted spirits, in page order
+     * @return List of SpiritBase objects containing title and image URL
+     */
+    public List<SpiritBase> scrapeSpirits(Consumer<List<SpiritBase>> sink) {
         List<SpiritBase> spirits = new ArrayList<>();
         WebDriver driver = null;
 
         try {
-            logger.info("Starting spirit scraping from: " + SPIRIT_PAGE_URL);
+            logger.info("Starting spirit scraping from: " + wikiUrl(SPIRIT_PAGE_PATH));
 
-            driver = createWebDriver();
-            driver.get(SPIRIT_PAGE_URL);
+            driver = borrowDriver();
+            driver.get(wikiUrl(SPIRIT_PAGE_PATH));
 
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
 
@@ -41,53 +71,72 @@ public class SpiritScraper extends BaseScraper {
             LOGGER.info("Found 'Spirits Gallery' tab, clicking...");
             galleryTab.click();
 
-            Thread.sleep(1000);
+            awaitReady(driver);
 
-            List<WebElement> tabContents = driver.findElements(By.cssSelector("div[class*='tabcontent']"));
+            recordPage(driver, SPIRIT_PAGE_PATH);
 
-            for (WebElement tabContent : tabContents) {
-                List<WebElement> rows = tabContent.findElements(By.cssSelector("div[class*='row']"));
-
-                for (WebElement row : rows) {
-                    List<WebElement> cols = row.findElements(By.cssSelector("div[class*='col']"));
-
-                    for (WebElement col : cols) {
-                        try {
-                            String title = col.getText().trim();
-
-                            WebElement imgElement = col.findElement(By.tagName("img"));
-                            String imgSrc = imgElement.getAttribute("data-src");
-                            if (imgSrc == null || imgSrc.isEmpty()) {
-                                imgSrc = imgElement.getAttribute("src");
-                            }
-
-                            String fullImageUrl = imgSrc;
-                            if (imgSrc != null && imgSrc.startsWith("/")) {
-                                fullImageUrl = ApiConfig.getBaseUrl() + imgSrc;
-                            }
-
-                            if (title != null && !title.isEmpty() && fullImageUrl != null && !fullImageUrl.isEmpty()) {
-                                SpiritBase spirit = new SpiritBase(title, fullImageUrl);
-                                spirits.add(spirit);
-                                logger.fine("Scraped spirit: " + title + " with image: " + fullImageUrl);
-                            }
-
-                        } catch (Exception e) {
-                            logger.log(Level.WARNING, "Failed to extract spirit from col element", e);
-                        }
-                    }
+            long extractStart = System.nanoTime();
+            if (getExtractionMode() == ExtractionMode.BULK_SCRIPT) {
+                streamCardsInBulk(driver, null, "div[class*='tabcontent'] div[class*='row']", "div[class*='col']", null,
+                        card -> new SpiritBase(card.getTitle(), card.getImage()), spirits, sink);
+            } else {
+                extractByWalkingElements(driver, spirits);
+                if (!spirits.isEmpty()) {
+                    sink.accept(List.copyOf(spirits));
                 }
             }
+            logExtractionTime(spirits.size(), extractStart);
 
             logger.info("Successfully scraped " + spirits.size() + " spirit items");
 
         } catch (Exception e) {
             logger.log(Level.SEVERE, "Failed to scrape spirits", e);
         } finally {
-            quitDriver(driver);
+            returnDriver(driver);
         }
 
         return spirits;
     }
+
+    /**
+     * Reads spirit cards one WebDriver round trip at a time.
+     */
+    private void extractByWalkingElements(WebDriver driver, List<SpiritBase> spirits) {
+        List<WebElement> tabContents = driver.findElements(By.cssSelector("div[class*='tabcontent']"));
+
+        for (WebElement tabContent : tabContents) {
+            List<WebElement> rows = tabContent.findElements(By.cssSelector("div[class*='row']"));
+
+            for (WebElement row : rows) {
+                List<WebElement> cols = row.findElements(By.cssSelector("div[class*='col']"));
+
+                for (WebElement col : cols) {
+                    try {
+                        String title = col.getText().trim();
+
+                        WebElement imgElement = col.findElement(By.tagName("img"));
+                        String imgSrc = imgElement.getAttribute("data-src");
+                        if (imgSrc == null || imgSrc.isEmpty()) {
+                            imgSrc = imgElement.getAttribute("src");
+                        }
+
+                        String fullImageUrl = imgSrc;
+                        if (imgSrc != null && imgSrc.startsWith("/")) {
+                            fullImageUrl = ApiConfig.getSiteUrl() + imgSrc;
+                        }
+
+                        if (title != null && !title.isEmpty() && fullImageUrl != null && !fullImageUrl.isEmpty()) {
+                            SpiritBase spirit = new SpiritBase(title, fullImageUrl);
+                            spirits.add(spirit);
+                            logger.fine("Scraped spirit: " + title + " with image: " + fullImageUrl);
+                        }
+
+                    } catch (Exception e) {
+                        logger.log(Level.WARNING, "Failed to extract spirit from col element", e);
+                    }
+                }
+            }
+        }
+    }
 }
 
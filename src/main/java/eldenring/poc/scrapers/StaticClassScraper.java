@@ -0,0 +1,38 @@
+package eldenring.poc.scrapers;
+
+import eldenring.poc.models.ClassBase;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Static HTML scraper for the Classes page. Falls back to {@link ClassScraper}.
+ */
+public class StaticClassScraper extends StaticHtmlScraper<ClassBase> {
+    private static final Logger LOGGER = Logger.getLogger(StaticClassScraper.class.getName());
+    private static final String CLASS_PAGE_PATH = "/Classes";
+
+    public StaticClassScraper() {
+        super(LOGGER, CLASS_PAGE_PATH, new ClassScraper());
+    }
+
+    @Override
+    protected List<ClassBase> parse(Document document) {
+        List<ClassBase> classes = new ArrayList<>();
+
+        for (Element col : document.select("div.row div.col-sm-3")) {
+            String title = text(col.selectFirst("h3"));
+            String image = imageUrl(col.selectFirst("img"));
+
+            if (!title.isEmpty() && !image.isEmpty()) {
+                classes.add(new ClassBase(title, image));
+                logger.fine("Scraped class: " + title + " with image: " + image);
+            }
+        }
+
+        return classes;
+    }
+}
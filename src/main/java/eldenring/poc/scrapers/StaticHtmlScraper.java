@@ -0,0 +1,130 @@
+package eldenring.poc.scrapers;
+
+import eldenring.poc.config.ApiConfig;
+import eldenring.poc.config.ScraperConfig;
+import eldenring.poc.models.BaseModel;
+import eldenring.poc.replay.PageReplay;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Scraping engine for pages whose gallery markup is already in the server-rendered HTML.
+ * Fetches the page with {@link HttpClient} and parses it with jsoup, so no browser is launched.
+ * If the static page yields nothing (or the request fails) the browser-based fallback is used.
+ *
+ * @param <T> The model type produced by the scraper
+ */
+public abstract class StaticHtmlScraper<T extends BaseModel> implements CatalogScraper<T> {
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+    private static final String USER_AGENT =
+            "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/119.0 Safari/537.36";
+
+    protected final Logger logger;
+    private final String pagePath;
+    private final CatalogScraper<T> browserFallback;
+
+    /**
+     * @param logger Logger instance for this scraper
+     * @param pagePath Path of the wiki page below the base URL, e.g. "/Classes"
+     * @param browserFallback Scraper used when the static HTML does not contain the gallery
+     */
+    protected StaticHtmlScraper(Logger logger, String pagePath, CatalogScraper<T> browserFallback) {
+        this.logger = logger;
+        this.pagePath = pagePath;
+        this.browserFallback = browserFallback;
+    }
+
+    /**
+     * Extracts the items from the parsed page.
+     *
+     * @param document Parsed page with its base URI set to the page URL
+     * @return Extracted items, empty if the gallery was not found
+     */
+    protected abstract List<T> parse(Document document);
+
+    @Override
+    public List<T> scrape() {
+        if (!ScraperConfig.isStaticHtmlEnabled()) {
+            return browserFallback.scrape();
+        }
+
+        String pageUrl = ApiConfig.getBaseUrl() + pagePath;
+        long start = System.nanoTime();
+        try {
+            logger.info("Starting static HTML scraping from: " + pageUrl);
+            List<T> items = parse(fetchDocument(pageUrl));
+
+            if (!items.isEmpty()) {
+                long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                logger.info("Successfully scraped " + items.size() + " items from static HTML in " + elapsedMs + " ms");
+                return items;
+            }
+            logger.warning("No gallery items in static HTML of " + pageUrl + " - falling back to browser scraping");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.log(Level.WARNING, "Interrupted while fetching " + pageUrl, e);
+            return List.of();
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Static HTML scraping of " + pageUrl + " failed - falling back to browser scraping", e);
+        }
+
+        return browserFallback.scrape();
+    }
+
+    private Document fetchDocument(String pageUrl) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(pageUrl))
+                .timeout(Duration.ofSeconds(20))
+                .header("User-Agent", USER_AGENT)
+                .header("Accept", "text/html")
+                .GET()
+                .build();
+
+        HttpResponse<String> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("Unexpected HTTP status " + response.statusCode() + " for " + pageUrl);
+        }
+        PageReplay.record(pagePath, response::body);
+        return Jsoup.parse(response.body(), pageUrl);
+    }
+
+    /**
+     * Resolves the image URL of an img element, preferring the lazy-load data-src attribute
+     * because the server-rendered src is usually a placeholder.
+     *
+     * @param img img element, may be null
+     * @return Absolute image URL, or an empty string if none is present
+     */
+    protected String imageUrl(Element img) {
+        if (img == null) {
+            return "";
+        }
+        String src = img.absUrl("data-src");
+        if (src.isEmpty()) {
+            src = img.absUrl("src");
+        }
+        return src;
+    }
+
+    /**
+     * @param element Element to read, may be null
+     * @return Trimmed text of the element, or an empty string
+     */
+    protected String text(Element element) {
+        return element == null ? "" : element.text().trim();
+    }
+}
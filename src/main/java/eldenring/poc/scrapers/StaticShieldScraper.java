@@ -0,0 +1,47 @@
+package eldenring.poc.scrapers;
+
+import eldenring.poc.models.ShieldBase;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Static HTML scraper for the Shields page. Falls back to {@link ShieldScraper}.
+ */
+public class StaticShieldScraper extends StaticHtmlScraper<ShieldBase> {
+    private static final Logger LOGGER = Logger.getLogger(StaticShieldScraper.class.getName());
+    private static final String SHIELD_PAGE_PATH = "/Shields";
+
+    public StaticShieldScraper() {
+        super(LOGGER, SHIELD_PAGE_PATH, new ShieldScraper());
+    }
+
+    @Override
+    protected List<ShieldBase> parse(Document document) {
+        List<ShieldBase> shields = new ArrayList<>();
+
+        for (Element col : document.select("div.row div.col-xs-6.col-sm-2")) {
+            Element link = col.selectFirst("a");
+            Element img = col.selectFirst("img");
+            if (link == null || img == null) {
+                continue;
+            }
+
+            String title = text(link);
+            if (title.isEmpty()) {
+                title = img.attr("title").trim();
+            }
+            String image = imageUrl(img);
+
+            if (!title.isEmpty() && !image.isEmpty()) {
+                shields.add(new ShieldBase(title, image));
+                logger.fine("Scraped shield: " + title + " with image: " + image);
+            }
+        }
+
+        return shields;
+    }
+}
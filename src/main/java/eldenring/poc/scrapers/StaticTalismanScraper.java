@@ -0,0 +1,42 @@
+package eldenring.poc.scrapers;
+
+import eldenring.poc.models.TalismanBase;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Static HTML scraper for the Talismans page. Falls back to {@link TalismanScraper}.
+ * Every tab is present in the raw HTML, so talismans listed under several tabs are de-duplicated.
+ */
+public class StaticTalismanScraper extends StaticHtmlScraper<TalismanBase> {
+    private static final Logger LOGGER = Logger.getLogger(StaticTalismanScraper.class.getName());
+    private static final String TALISMAN_PAGE_PATH = "/Talismans";
+
+    public StaticTalismanScraper() {
+        super(LOGGER, TALISMAN_PAGE_PATH, new TalismanScraper());
+    }
+
+    @Override
+    protected List<TalismanBase> parse(Document document) {
+        List<TalismanBase> talismans = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+
+        for (Element col : document.select("div[class*=tabcontent] div[class*=row] div[class*=col]")) {
+            String title = text(col.selectFirst("a.wiki_tooltip"));
+            String image = imageUrl(col.selectFirst("img"));
+
+            if (!title.isEmpty() && !image.isEmpty() && seen.add(title)) {
+                talismans.add(new TalismanBase(title, image));
+                logger.fine("Scraped talisman: " + title + " with image: " + image);
+            }
+        }
+
+        return talismans;
+    }
+}
@@ -0,0 +1,38 @@
+package eldenring.poc.scrapers;
+
+import eldenring.poc.models.WeaponCategoryBase;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Static HTML scraper for the weapon gallery. Falls back to {@link WeaponCategoryScraper}.
+ */
+public class StaticWeaponCategoryScraper extends StaticHtmlScraper<WeaponCategoryBase> {
+    private static final Logger LOGGER = Logger.getLogger(StaticWeaponCategoryScraper.class.getName());
+    private static final String WEAPON_PAGE_PATH = "/Weapons";
+
+    public StaticWeaponCategoryScraper() {
+        super(LOGGER, WEAPON_PAGE_PATH, new WeaponCategoryScraper());
+    }
+
+    @Override
+    protected List<WeaponCategoryBase> parse(Document document) {
+        List<WeaponCategoryBase> categories = new ArrayList<>();
+
+        for (Element col : document.select("div.row.gallery div[class*=col-]")) {
+            String categoryName = text(col.selectFirst("a.wiki_link"));
+            String image = imageUrl(col.selectFirst("img"));
+
+            if (!categoryName.isEmpty() && !image.isEmpty()) {
+                categories.add(new WeaponCategoryBase(categoryName, image));
+                logger.fine("Scraped weapon category: " + categoryName + " with image: " + image);
+            }
+        }
+
+        return categories;
+    }
+}
@@ -11,25 +11,40 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-public class TalismanScraper extends BaseScraper {
+public class TalismanScraper extends BaseScraper implements CatalogScraper<TalismanBase> {
     private static final Logger LOGGER = Logger.getLogger(TalismanScraper.class.getName());
-    private static final String TALISMAN_PAGE_URL = ApiConfig.getBaseUrl() + "/Talismans";
+    private static final String TALISMAN_PAGE_PATH = "/Talismans";
 
     public TalismanScraper() {
         super(LOGGER);
     }
 
+    @Override
+    public List<TalismanBase> scrape() {
+        return scrapeTalismans();
+    }
+
+    /**
+     * Ready once the talisman links have stopped appearing.
+     */
+    @Override
+    protected ReadyCondition readyCondition() {
+        return ReadyCondition.stableCount(By.cssSelector("div[class*='tabcontent'] a.wiki_tooltip"), 2);
+    }
+
     public List<TalismanBase> scrapeTalismans() {
         List<TalismanBase> talismans = new ArrayList<>();
         WebDriver driver = null;
 
         try {
-            logger.info("Starting talisman scraping from: " + TALISMAN_PAGE_URL);
+            logger.info("Starting talisman scraping from: " + wikiUrl(TALISMAN_PAGE_PATH));
+
+            driver = borrowDriver();
+            driver.get(wikiUrl(TALISMAN_PAGE_PATH));
 
-            driver = createWebDriver();
-            driver.get(TALISMAN_PAGE_URL);
+            awaitReady(driver);
 
-            Thread.sleep(1000);
+            recordPage(driver, TALISMAN_PAGE_PATH);
 
             List<WebElement> tabContents = driver.findElements(By.cssSelector("div[class*='tabcontent']"));
 
@@ -53,7 +68,7 @@ public class TalismanScraper extends BaseScraper {
 
                             String fullImageUrl = imgSrc;
                             if (imgSrc != null && imgSrc.startsWith("/")) {
-                                fullImageUrl = ApiConfig.getBaseUrl() + imgSrc;
+                                fullImageUrl = ApiConfig.getSiteUrl() + imgSrc;
                             }
 
                             if (title != null && !title.isEmpty() && fullImageUrl != null && !fullImageUrl.isEmpty()) {
@@ -74,7 +89,7 @@ public class TalismanScraper extends BaseScraper {
         } catch (Exception e) {
             logger.log(Level.SEVERE, "Failed to scrape talismans", e);
         } finally {
-            quitDriver(driver);
+            returnDriver(driver);
         }
 
         return talismans;
@@ -11,25 +11,40 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-public class WeaponCategoryScraper extends BaseScraper {
+public class WeaponCategoryScraper extends BaseScraper implements CatalogScraper<WeaponCategoryBase> {
     private static final Logger LOGGER = Logger.getLogger(WeaponCategoryScraper.class.getName());
-    private static final String WEAPON_PAGE_URL = ApiConfig.getBaseUrl() + "/Weapons";
+    private static final String WEAPON_PAGE_PATH = "/Weapons";
 
     public WeaponCategoryScraper() {
         super(LOGGER);
     }
 
+    @Override
+    public List<WeaponCategoryBase> scrape() {
+        return scrapeWeaponCategories();
+    }
+
+    /**
+     * Ready once the weapon gallery images have stopped appearing.
+     */
+    @Override
+    protected ReadyCondition readyCondition() {
+        return ReadyCondition.stableCount(By.cssSelector("div.row.gallery img"), 2);
+    }
+
     public List<WeaponCategoryBase> scrapeWeaponCategories() {
         List<WeaponCategoryBase> categories = new ArrayList<>();
         WebDriver driver = null;
 
         try {
-            logger.info("Starting weapon category scraping from: " + WEAPON_PAGE_URL);
+            logger.info("Starting weapon category scraping from: " + wikiUrl(WEAPON_PAGE_PATH));
+
+            driver = borrowDriver();
+            driver.get(wikiUrl(WEAPON_PAGE_PATH));
 
-            driver = createWebDriver();
-            driver.get(WEAPON_PAGE_URL);
+            awaitReady(driver);
 
-            Thread.sleep(1000);
+            recordPage(driver, WEAPON_PAGE_PATH);
 
             List<WebElement> galleryRows = driver.findElements(By.cssSelector("div.row.gallery"));
 
@@ -56,7 +71,7 @@ public class WeaponCategoryScraper extends BaseScraper {
 
                         String fullImageUrl = imgSrc;
                         if (imgSrc != null && imgSrc.startsWith("/")) {
-                            fullImageUrl = ApiConfig.getBaseUrl() + imgSrc;
+                            fullImageUrl = ApiConfig.getSiteUrl() + imgSrc;
                         }
 
                         if (categoryName != null && !categoryName.isEmpty() && fullImageUrl != null && !fullImageUrl.isEmpty()) {
@@ -76,7 +91,7 @@ public class WeaponCategoryScraper extends BaseScraper {
         } catch (Exception e) {
             logger.log(Level.SEVERE, "Failed to scrape weapon categories", e);
         } finally {
-            quitDriver(driver);
+            returnDriver(driver);
         }
 
         return categories;
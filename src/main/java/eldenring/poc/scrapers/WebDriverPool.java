@@ -0,0 +1,283 @@
+package eldenring.poc.scrapers;
+
+import eldenring.poc.config.ScraperConfig;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Pool of reusable headless Chrome sessions shared by all scrapers.
+ * Launching ChromeDriver takes seconds, so sessions are borrowed for a scrape and returned afterwards
+ * instead of being quit. Idle sessions above the configured minimum are evicted after the idle timeout,
+ * and every session is health-checked before it is handed out again.
+ */
+public final class WebDriverPool {
+    private static final Logger LOGGER = Logger.getLogger(WebDriverPool.class.getName());
+
+    private static final WebDriverPool SHARED = new WebDriverPool(
+            ScraperConfig.getPoolMinSize(),
+            ScraperConfig.getPoolMaxSize(),
+            ScraperConfig.getPoolIdleTimeout(),
+            ScraperConfig.getPoolBorrowTimeout(),
+            WebDriverPool::launchChrome);
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(SHARED::shutdown, "webdriver-pool-shutdown"));
+    }
+
+    private final int minSize;
+    private final Duration idleTimeout;
+    private final Duration borrowTimeout;
+    private final Supplier<WebDriver> factory;
+    private final Semaphore permits;
+    private final Deque<IdleDriver> idleDrivers = new ArrayDeque<>();
+    private final ScheduledExecutorService evictor;
+    private volatile boolean shutdown;
+
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong launchCount = new AtomicLong();
+    private final AtomicLong launchesAvoided = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong healthCheckFailures = new AtomicLong();
+
+    /**
+     * Creates a new pool.
+     *
+     * @param minSize Idle sessions kept alive by eviction
+     * @param maxSize Maximum number of sessions alive at the same time (borrowed or idle)
+     * @param idleTimeout Idle time after which a session above minSize is quit
+     * @param borrowTimeout Maximum time a caller waits for a free session
+     * @param factory Creates a new browser session on demand
+     */
+    public WebDriverPool(int minSize, int maxSize, Duration idleTimeout, Duration borrowTimeout, Supplier<WebDriver> factory) {
+        this.minSize = Math.min(minSize, maxSize);
+        this.idleTimeout = idleTimeout;
+        this.borrowTimeout = borrowTimeout;
+        this.factory = factory;
+        this.permits = new Semaphore(maxSize, true);
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "webdriver-pool-evictor");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(5, idleTimeout.toSeconds() / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @return The pool shared by every scraper in the application
+     */
+    public static WebDriverPool shared() {
+        return SHARED;
+    }
+
+    /**
+     * Borrows a healthy session, reusing an idle one when possible.
+     * Blocks while the pool is at its maximum size.
+     *
+     * @return A WebDriver that must be handed back with {@link #release(WebDriver)}
+     */
+    public WebDriver borrow() {
+        if (shutdown) {
+            throw new IllegalStateException("WebDriver pool has been shut down");
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(borrowTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Timed out after " + borrowTimeout.toSeconds() + "s waiting for a WebDriver");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a WebDriver", e);
+        } finally {
+            waitNanos.addAndGet(System.nanoTime() - start);
+        }
+        borrowCount.incrementAndGet();
+
+        try {
+            IdleDriver candidate;
+            while ((candidate = pollIdle()) != null) {
+                if (isHealthy(candidate.driver)) {
+                    launchesAvoided.incrementAndGet();
+                    return candidate.driver;
+                }
+                healthCheckFailures.incrementAndGet();
+                LOGGER.warning("Discarding unhealthy WebDriver session");
+                quitQuietly(candidate.driver);
+            }
+
+            LOGGER.info("Launching new WebDriver session");
+            launchCount.incrementAndGet();
+            return factory.get();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a borrowed session to the pool. Null is ignored so callers can release unconditionally.
+     *
+     * @param driver Session previously obtained from {@link #borrow()}
+     */
+    public void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        if (shutdown) {
+            quitQuietly(driver);
+        } else {
+            synchronized (idleDrivers) {
+                idleDrivers.push(new IdleDriver(driver, System.nanoTime()));
+            }
+        }
+        permits.release();
+    }
+
+    /**
+     * Quits every idle session and stops eviction. Sessions still borrowed are quit when released.
+     */
+    public void shutdown() {
+        if (shutdown) {
+            return;
+        }
+        shutdown = true;
+        evictor.shutdownNow();
+
+        IdleDriver idle;
+        while ((idle = pollIdle()) != null) {
+            quitQuietly(idle.driver);
+        }
+        LOGGER.info("WebDriver pool shut down: " + describeStats());
+    }
+
+    public long getBorrowCount() {
+        return borrowCount.get();
+    }
+
+    public long getLaunchCount() {
+        return launchCount.get();
+    }
+
+    public long getLaunchesAvoided() {
+        return launchesAvoided.get();
+    }
+
+    public long getTotalWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos.get());
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public long getHealthCheckFailures() {
+        return healthCheckFailures.get();
+    }
+
+    public int getIdleCount() {
+        synchronized (idleDrivers) {
+            return idleDrivers.size();
+        }
+    }
+
+    public String describeStats() {
+        return "borrows=" + getBorrowCount()
+                + ", launches=" + getLaunchCount()
+                + ", launchesAvoided=" + getLaunchesAvoided()
+                + ", totalWaitMs=" + getTotalWaitMillis()
+                + ", evictions=" + getEvictionCount()
+                + ", healthCheckFailures=" + getHealthCheckFailures()
+                + ", idle=" + getIdleCount();
+    }
+
+    private IdleDriver pollIdle() {
+        synchronized (idleDrivers) {
+            return idleDrivers.poll();
+        }
+    }
+
+    /**
+     * Quits sessions that have been idle longer than the idle timeout, keeping at least minSize alive.
+     * The most recently returned sessions sit at the head of the deque, so the oldest are evicted first.
+     */
+    private void evictIdle() {
+        long now = System.nanoTime();
+        try {
+            synchronized (idleDrivers) {
+                Iterator<IdleDriver> it = idleDrivers.descendingIterator();
+                while (it.hasNext() && idleDrivers.size() > minSize) {
+                    IdleDriver idle = it.next();
+                    if (now - idle.returnedAtNanos < idleTimeout.toNanos()) {
+                        break;
+                    }
+                    it.remove();
+                    evictionCount.incrementAndGet();
+                    quitQuietly(idle.driver);
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Failed to evict idle WebDriver sessions", e);
+        }
+    }
+
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "WebDriver health check failed", e);
+            return false;
+        }
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "Failed to quit WebDriver", e);
+        }
+    }
+
+    /**
+     * Creates a configured headless Chrome WebDriver instance.
+     *
+     * @return Configured WebDriver instance
+     */
+    private static WebDriver launchChrome() {
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless");
+        options.addArguments("--disable-gpu");
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--window-size=1920,1080");
+
+        return new ChromeDriver(options);
+    }
+
+    private static final class IdleDriver {
+        private final WebDriver driver;
+        private final long returnedAtNanos;
+
+        private IdleDriver(WebDriver driver, long returnedAtNanos) {
+            this.driver = driver;
+            this.returnedAtNanos = returnedAtNanos;
+        }
+    }
+}
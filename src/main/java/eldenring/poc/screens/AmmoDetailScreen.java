@@ -1,12 +1,12 @@
 package eldenring.poc.screens;
 
+import eldenring.poc.images.ImageCache;
 import eldenring.poc.models.AmmoBase;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.VBox;
@@ -42,8 +42,7 @@ public class AmmoDetailScreen {
         iv.setPreserveRatio(true);
         iv.setFitWidth(300);
         try {
-            Image img = new Image(ammo.getImage(), true);
-            iv.setImage(img);
+            ImageCache.shared().load(ammo.getImage(), 0, 0, iv::setImage);
         } catch (Exception ignored) {}
         root.getChildren().add(iv);
 
@@ -3,7 +3,6 @@ package eldenring.poc.screens;
 import eldenring.poc.models.AmmoBase;
 import eldenring.poc.navigation.AppNavigator;
 import eldenring.poc.services.AmmoService;
-import javafx.scene.Node;
 
 import java.util.List;
 import java.util.logging.Logger;
@@ -29,9 +28,7 @@ public class AmmoScreen extends BaseListScreen<AmmoBase> {
     }
 
     @Override
-    protected Node createItemCard(AmmoBase item) {
-        Node wrapper = createImageCard(item.getImageUrl(), item.getDisplayName());
-        wrapper.setOnMouseClicked(evt -> navigator.setCenter(new AmmoDetailScreen(navigator, item).getView()));
-        return wrapper;
+    protected void onItemSelected(AmmoBase item) {
+        navigator.navigateTo(() -> new AmmoDetailScreen(navigator, item).getView());
     }
 }
@@ -1,30 +1,64 @@
 package eldenring.poc.screens;
 
+import eldenring.poc.config.UiConfig;
+import eldenring.poc.images.ImageCache;
 import eldenring.poc.models.BaseModel;
 import eldenring.poc.navigation.AppNavigator;
+import eldenring.poc.navigation.ManagedScreen;
+import eldenring.poc.search.CatalogSearchIndex;
+import eldenring.poc.search.SearchResult;
+import eldenring.poc.services.BaseService;
+import eldenring.poc.tasks.TaskPriority;
+import eldenring.poc.tasks.TaskScheduler;
 import javafx.application.Platform;
 import javafx.scene.Node;
+import javafx.scene.control.TextField;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Generic base screen for displaying paginated lists of catalog items.
  * Reduces code duplication across screen implementations by providing common pagination logic.
+ * In infinite-scroll mode pages are appended to the grid as its last rows come into view, and the next
+ * few pages (and their images) are always loaded ahead, so scrolling never waits on a "Loading" label.
+ * Pages are fetched on the shared {@link TaskScheduler}: the page being shown at VISIBLE priority,
+ * the pages ahead at PREFETCH. While the screen is hidden its queued loads are cancelled and image
+ * loading is paused; both resume when it is shown again.
+ * A search bar above the grid queries the {@link CatalogSearchIndex} across every cached category;
+ * while it holds text the grid is replaced by the results. A clicked result opens on the screen of its category.
  *
  * @param <T> The model type that extends BaseModel
  */
-public abstract class BaseListScreen<T extends BaseModel> extends BaseScreen {
+public abstract class BaseListScreen<T extends BaseModel> extends BaseScreen implements ManagedScreen {
     protected final AppNavigator navigator;
-    protected final Map<Integer, List<T>> pageCache = new HashMap<>();
+    private final PageCache<T> pageCache = new PageCache<>();
+    protected final CardGrid<T> cardGrid = new CardGrid<>();
     protected int currentPage = 0;
-    protected static final int PAGE_SIZE = 20;
+    protected static final int PAGE_SIZE = BaseService.DEFAULT_PAGE_SIZE;
+    private static final int MAX_SEARCH_RESULTS = 100;
 
     private final Logger logger;
     private final String itemTypeName;
+    private final boolean infiniteScroll = UiConfig.isInfiniteScrollEnabled();
+    private final Map<Integer, CompletableFuture<List<T>>> pageLoads = new HashMap<>();
+    private final TextField searchField = new TextField();
+    private final CardGrid<BaseModel> searchGrid = new CardGrid<>();
+    private List<SearchResult> searchResults = List.of();
+    private int searchGeneration;
+    private final long createdAtNanos = System.nanoTime();
+    private boolean firstCardsShown;
+    private int lastAppendedPage = -1;
+    private CompletableFuture<List<T>> appendLoad;
+    private boolean lastPageReached;
 
     /**
      * Creates a new BaseListScreen.
@@ -39,12 +73,35 @@ public abstract class BaseListScreen<T extends BaseModel> extends BaseScreen {
         this.logger = logger;
         this.itemTypeName = itemTypeName;
 
-        // Use paginationBox from BaseScreen
-        this.setBottom(paginationBox);
+        // Cards are shown in a virtualized grid; paginationBox comes from BaseScreen
+        cardGrid.setOnItemSelected(this::onItemSelected);
+        this.setCenter(cardGrid);
 
-        // Wire base pagination buttons to local handlers
-        setOnPrevious(e -> loadPreviousPage());
-        setOnNext(e -> loadNextPage());
+        searchField.setPromptText("Search all categories");
+        searchField.getStyleClass().add("search-field");
+        searchField.textProperty().addListener((obs, oldQuery, query) -> search(query));
+        searchField.focusedProperty().addListener((obs, wasFocused, focused) -> {
+            if (focused) {
+                // Index the categories cached since the last search before the first query needs them
+                TaskScheduler.shared().submit(TaskPriority.VISIBLE, this, () -> {
+                    CatalogSearchIndex.shared().prepare();
+                    return null;
+                });
+            }
+        });
+        searchGrid.setOnItemSelected(this::onSearchResultClicked);
+        searchGrid.setPlaceholder(createErrorLabel("No matching items."));
+        this.setTop(searchField);
+
+        if (infiniteScroll) {
+            cardGrid.setOnNearEnd(this::appendNextPage);
+        } else {
+            this.setBottom(paginationBox);
+
+            // Wire base pagination buttons to local handlers
+            setOnPrevious(e -> loadPreviousPage());
+            setOnNext(e -> loadNextPage());
+        }
 
         // Load initial page
         loadPage(0);
@@ -61,59 +118,299 @@ public abstract class BaseListScreen<T extends BaseModel> extends BaseScreen {
     protected abstract List<T> fetchItems(int limit, int page);
 
     /**
-     * Creates a card node for an individual item.
-     * Subclasses can override to customize card creation (e.g., add click handlers).
+     * Called when the card of an item is clicked.
+     * Subclasses can override to react to selection (e.g., open a detail screen).
+     *
+     * @param item The item whose card was clicked
+     */
+    protected void onItemSelected(T item) {
+    }
+
+    /**
+     * Called when a search result is clicked. The result may belong to any category, so it is opened through
+     * the navigator, which switches to the screen of its category and calls {@link #showItem} there.
      *
-     * @param item The item to create a card for
-     * @return Node representing the card
+     * @param result The result whose card was clicked
      */
-    protected Node createItemCard(T item) {
-        return createImageCard(item.getImageUrl(), item.getDisplayName());
+    protected void onSearchResultSelected(SearchResult result) {
+        searchField.clear();
+        navigator.openSearchResult(result);
+    }
+
+    /**
+     * Shows an item of this screen's category, e.g. a search result: closes the search, scrolls the list to the
+     * item if its page is loaded, and then handles it like a click on its card ({@link #onItemSelected}).
+     *
+     * @param selected Item of this screen's category
+     */
+    @SuppressWarnings("unchecked")
+    public void showItem(BaseModel selected) {
+        searchField.clear();
+        List<T> shown = cardGrid.getItems();
+        for (int i = 0; i < shown.size(); i++) {
+            T item = shown.get(i);
+            if (Objects.equals(item.getDisplayName(), selected.getDisplayName())
+                    && Objects.equals(item.getImageUrl(), selected.getImageUrl())) {
+                cardGrid.scrollToItem(i);
+                onItemSelected(item);
+                return;
+            }
+        }
+        onItemSelected((T) selected);
+    }
+
+    /**
+     * Shows the items matching the query in place of the list, or the list again for a blank query.
+     * The query runs on the shared scheduler, since it may first have to index categories cached since the
+     * last search; only the results of the latest query are shown.
+     */
+    private void search(String query) {
+        int generation = ++searchGeneration;
+        boolean searching = query != null && !query.isBlank();
+        if (!searching) {
+            searchResults = List.of();
+            searchGrid.setItems(null);
+            this.setCenter(cardGrid);
+            if (!infiniteScroll) {
+                this.setBottom(paginationBox);
+            }
+            return;
+        }
+
+        long start = System.nanoTime();
+        TaskScheduler.shared().submit(TaskPriority.VISIBLE, this,
+                () -> CatalogSearchIndex.shared().search(query, MAX_SEARCH_RESULTS)
+        ).whenComplete((results, ex) -> Platform.runLater(() -> {
+            if (generation != searchGeneration || isCancellation(ex)) {
+                return;
+            }
+            if (ex != null) {
+                logger.log(Level.SEVERE, "Search '" + query + "' failed", ex);
+                return;
+            }
+            searchResults = results;
+            List<BaseModel> items = new ArrayList<>(results.size());
+            for (SearchResult result : results) {
+                items.add(result.getItem());
+            }
+            searchGrid.setItems(items);
+            this.setCenter(searchGrid);
+            this.setBottom(null);
+            logger.fine("Search '" + query + "' matched " + items.size() + " items in "
+                    + (System.nanoTime() - start) / 1_000 + " us");
+        }));
+    }
+
+    private void onSearchResultClicked(BaseModel item) {
+        for (SearchResult result : searchResults) {
+            if (result.getItem() == item) {
+                onSearchResultSelected(result);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onShow() {
+        cardGrid.setImageLoadingPaused(false);
+        searchGrid.setImageLoadingPaused(false);
+        // Nothing shown yet and nothing on its way (first load cancelled while hidden, or disposed)
+        if (lastAppendedPage < 0 && pageLoads.isEmpty()) {
+            loadPage(currentPage);
+        }
+        // A query still queued when the screen was hidden was cancelled with its page loads
+        if (!searchField.getText().isBlank()) {
+            search(searchField.getText());
+        }
+    }
+
+    @Override
+    public void onHide() {
+        cancelPendingLoads();
+        cardGrid.setImageLoadingPaused(true);
+        searchGrid.setImageLoadingPaused(true);
+    }
+
+    @Override
+    public void dispose() {
+        cancelPendingLoads();
+        pageCache.clear();
+        cardGrid.setItems(null);
+        searchField.clear();
+        currentPage = 0;
+        lastAppendedPage = -1;
+        lastPageReached = false;
+        logger.info("Disposed " + itemTypeName + " screen");
     }
 
     /**
-     * Loads a specific page of items.
+     * Shows a specific page of items, replacing the grid contents.
      * Checks cache first, then fetches from service if needed.
      *
      * @param page Page number to load (0-based)
      */
     private void loadPage(int page) {
         // Check if page is already cached
-        if (pageCache.containsKey(page)) {
-            List<T> cachedList = pageCache.get(page);
-            displayItems(cachedList);
-            currentPage = page;
-            updatePaginationControls();
+        if (pageCache.contains(page)) {
+            showPage(page, pageCache.get(page));
             return;
         }
 
         // Show loading
-        contentFlow.getChildren().clear();
-        contentFlow.getChildren().add(createLoadingLabel("Loading " + itemTypeName));
+        cardGrid.setPlaceholder(createLoadingLabel("Loading " + itemTypeName));
+        cardGrid.setItems(null);
         setNextDisabled(true);
 
-        // Fetch data in background thread
-        new Thread(() -> {
-            try {
-                List<T> list = fetchItems(PAGE_SIZE, page);
+        requestPage(page, TaskPriority.VISIBLE).whenComplete((list, ex) -> {
+            if (isCancellation(ex)) {
+                return;
+            }
+            if (ex != null) {
+                cardGrid.setPlaceholder(createErrorLabel("Failed to load " + itemTypeName + "."));
+                setNextDisabled(false);
+            } else {
+                showPage(page, list);
+            }
+        });
+    }
+
+    private void showPage(int page, List<T> list) {
+        displayItems(list);
+        if (!firstCardsShown && list != null && !list.isEmpty()) {
+            firstCardsShown = true;
+            logger.info("First " + itemTypeName + " cards shown after "
+                    + (System.nanoTime() - createdAtNanos) / 1_000_000 + " ms");
+        }
+        currentPage = page;
+        lastAppendedPage = page;
+        lastPageReached = list == null || list.size() < PAGE_SIZE;
+        updatePaginationControls();
+        prefetchAfter(page);
+    }
+
+    /**
+     * Appends the page after the last one shown. Called whenever the grid's last rows are visible;
+     * repeated calls while a page is on its way are ignored. An append outlived by a hide or dispose of
+     * the screen is cancelled, so it can neither append its page twice nor into a cleared grid.
+     */
+    private void appendNextPage() {
+        if (appendLoad != null || lastPageReached || lastAppendedPage < 0) {
+            return;
+        }
+        int page = lastAppendedPage + 1;
+        CompletableFuture<List<T>> load = requestPage(page, TaskPriority.VISIBLE);
+        appendLoad = load;
 
-                // Cache the result
-                pageCache.put(page, list);
+        load.whenComplete((list, ex) -> {
+            if (isCancellation(ex) || appendLoad != load) {
+                return;
+            }
+            appendLoad = null;
+            if (ex != null) {
+                // Logged by requestPage; the next scroll to the end retries
+                return;
+            }
+            if (page != lastAppendedPage + 1) {
+                logger.fine("Dropped " + itemTypeName + " page " + page + " - the grid no longer ends before it");
+                return;
+            }
+            lastAppendedPage = page;
+            currentPage = page;
+            lastPageReached = list.size() < PAGE_SIZE;
+            cardGrid.appendItems(list);
+            logger.info("Appended page " + page + " (" + cardGrid.getItems().size() + " " + itemTypeName + " shown)");
+            prefetchAfter(page);
+        });
+    }
 
-                Platform.runLater(() -> {
-                    displayItems(list);
-                    currentPage = page;
-                    updatePaginationControls();
-                });
-            } catch (Exception ex) {
+    /**
+     * Loads the pages following {@code page}, and their card images, ahead of time.
+     */
+    private void prefetchAfter(int page) {
+        if (lastPageReached) {
+            return;
+        }
+        for (int next = page + 1; next <= page + UiConfig.getPrefetchPages(); next++) {
+            if (!pageCache.contains(next) && !pageLoads.containsKey(next)) {
+                requestPage(next, TaskPriority.PREFETCH).thenAccept(cardGrid::prefetchImages);
+            }
+        }
+    }
+
+    /**
+     * Returns a page from the screen's page cache or fetches it on the shared scheduler.
+     * Concurrent requests for the same page share one fetch, and a queued prefetch is promoted when
+     * the page is needed right away. Must be called on the JavaFX thread; the returned future also
+     * completes there, or is cancelled if the screen leaves the scene first.
+     *
+     * @param page Page number (0-based)
+     * @param priority Priority of the fetch
+     * @return Future completed with the page items
+     */
+    private CompletableFuture<List<T>> requestPage(int page, TaskPriority priority) {
+        List<T> cached = pageCache.get(page);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        CompletableFuture<List<T>> inFlight = pageLoads.get(page);
+        if (inFlight != null) {
+            TaskScheduler.shared().promote(inFlight, priority);
+            return onFxThread(inFlight);
+        }
+
+        int generation = pageCache.generation();
+        CompletableFuture<List<T>> load = TaskScheduler.shared().submit(priority, this, () -> {
+            List<T> list = fetchItems(PAGE_SIZE, page);
+            // A load already running when the screen was disposed must not repopulate its cache
+            if (!pageCache.put(generation, page, list)) {
+                logger.fine("Discarded " + itemTypeName + " page " + page + " fetched for a disposed screen");
+            }
+            return list;
+        });
+        pageLoads.put(page, load);
+        load.whenComplete((list, ex) -> {
+            if (ex != null && !isCancellation(ex)) {
                 logger.log(Level.SEVERE, "Failed to fetch " + itemTypeName, ex);
-                Platform.runLater(() -> {
-                    contentFlow.getChildren().clear();
-                    contentFlow.getChildren().add(createErrorLabel("Failed to load " + itemTypeName + "."));
-                    setNextDisabled(false);
-                });
             }
-        }).start();
+            Platform.runLater(() -> pageLoads.remove(page, load));
+        });
+        return onFxThread(load);
+    }
+
+    /**
+     * @return Future completed on the JavaFX thread with the outcome of {@code load}, including failures
+     */
+    private static <V> CompletableFuture<V> onFxThread(CompletableFuture<V> load) {
+        CompletableFuture<V> relay = new CompletableFuture<>();
+        load.whenComplete((value, ex) -> Platform.runLater(() -> {
+            if (ex != null) {
+                relay.completeExceptionally(ex);
+            } else {
+                relay.complete(value);
+            }
+        }));
+        return relay;
+    }
+
+    /**
+     * Drops every queued page load of this screen and the pending append. Pages already fetched stay in the
+     * page cache; loads already running still store their page unless the screen is disposed.
+     */
+    private void cancelPendingLoads() {
+        int cancelled = TaskScheduler.shared().cancelAll(this);
+        pageLoads.clear();
+        if (appendLoad != null) {
+            appendLoad.cancel(false);
+            appendLoad = null;
+        }
+        if (cancelled > 0) {
+            logger.info("Cancelled " + cancelled + " pending " + itemTypeName + " loads");
+        }
+    }
+
+    private static boolean isCancellation(Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        return cause instanceof CancellationException;
     }
 
     /**
@@ -122,17 +419,12 @@ public abstract class BaseListScreen<T extends BaseModel> extends BaseScreen {
      * @param list List of items to display
      */
     private void displayItems(List<T> list) {
-        contentFlow.getChildren().clear();
-
         if (list == null || list.isEmpty()) {
-            contentFlow.getChildren().add(createErrorLabel("No items found."));
-            return;
-        }
-
-        for (T item : list) {
-            Node card = createItemCard(item);
-            contentFlow.getChildren().add(card);
+            cardGrid.setPlaceholder(createErrorLabel("No items found."));
         }
+        cardGrid.setItems(list);
+        logger.info("Displayed " + (list == null ? 0 : list.size()) + " " + itemTypeName
+                + " - image cache: " + ImageCache.shared().describeStats());
     }
 
     /**
@@ -0,0 +1,392 @@
+package eldenring.poc.screens;
+
+import eldenring.poc.config.CacheConfig;
+import eldenring.poc.images.ImageCache;
+import eldenring.poc.models.BaseModel;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.stage.Screen;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * Virtualized grid of image cards.
+ * Items are laid out in rows sized to the available width, and the rows are shown in a {@link ListView},
+ * so only the rows in the viewport have nodes. Row cells and the cards inside them are recycled on scroll
+ * and re-bound to other items, keeping the node count constant however many items the grid holds.
+ * Items can be appended while scrolling; a callback fires when the rows near the end become visible.
+ *
+ * @param <T> The model type shown by the cards
+ */
+public class CardGrid<T extends BaseModel> extends StackPane {
+    private static final double CARD_WIDTH = 160;
+    private static final double CARD_HEIGHT = 200;
+    private static final double GAP = 16;
+    private static final double PADDING = 12;
+    private static final int NEAR_END_ROWS = 2;
+
+    /** Row numbers; cells read their cards from {@link #items} so appending never invalidates a row. */
+    private final ListView<Integer> rowView = new ListView<>();
+    private final ObservableList<Integer> rows = FXCollections.observableArrayList();
+    private final ChunkedList<T> items = new ChunkedList<>();
+    /** Every row cell the list view created; only a viewport's worth, since cells are recycled. */
+    private final List<RowCell> rowCells = new ArrayList<>();
+    private int columns = 1;
+    private Consumer<T> onItemSelected;
+    private Runnable onNearEnd;
+    private boolean imageLoadingPaused;
+
+    public CardGrid() {
+        getStyleClass().add("card-grid");
+
+        rowView.getStyleClass().addAll("card-grid-rows", "items-scroll");
+        rowView.setItems(rows);
+        rowView.setFixedCellSize(CARD_HEIGHT + GAP);
+        rowView.setFocusTraversable(false);
+        rowView.setCellFactory(view -> {
+            RowCell cell = new RowCell();
+            rowCells.add(cell);
+            return cell;
+        });
+        rowView.widthProperty().addListener((obs, oldWidth, width) -> relayout(width.doubleValue()));
+        getChildren().add(rowView);
+    }
+
+    /**
+     * Replaces the items shown by the grid and scrolls back to the top.
+     *
+     * @param items Items to show, in order
+     */
+    public void setItems(List<T> items) {
+        this.items.clear();
+        if (items != null) {
+            this.items.addChunk(items);
+        }
+        rebuildRows();
+        if (!rows.isEmpty()) {
+            rowView.scrollTo(0);
+        }
+    }
+
+    /**
+     * Appends items after the current ones without moving the scroll position.
+     * The list is kept by reference, not copied.
+     *
+     * @param more Items to append
+     */
+    public void appendItems(List<T> more) {
+        if (more == null || more.isEmpty()) {
+            return;
+        }
+        int lastRow = rows.size() - 1;
+        items.addChunk(more);
+        // The previous last row may have gained cards; replacing it updates that cell only
+        if (lastRow >= 0) {
+            rows.set(lastRow, lastRow);
+        }
+        int rowCount = rowCount();
+        List<Integer> added = new ArrayList<>(Math.max(0, rowCount - rows.size()));
+        for (int row = rows.size(); row < rowCount; row++) {
+            added.add(row);
+        }
+        rows.addAll(added);
+    }
+
+    /**
+     * Scrolls so the row holding the item is at the top of the viewport.
+     *
+     * @param index Position of the item in {@link #getItems()}
+     */
+    public void scrollToItem(int index) {
+        if (index >= 0 && index < items.size()) {
+            rowView.scrollTo(index / columns);
+        }
+    }
+
+    /**
+     * @return Every item in the grid, in order
+     */
+    public List<T> getItems() {
+        return Collections.unmodifiableList(items);
+    }
+
+    /**
+     * @param placeholder Node shown while the grid has no items (loading, empty or error message)
+     */
+    public void setPlaceholder(Node placeholder) {
+        rowView.setPlaceholder(placeholder);
+    }
+
+    /**
+     * @param onItemSelected Called with the item whose card was clicked
+     */
+    public void setOnItemSelected(Consumer<T> onItemSelected) {
+        this.onItemSelected = onItemSelected;
+    }
+
+    /**
+     * @param onNearEnd Called on the JavaFX thread whenever one of the last rows is shown
+     */
+    public void setOnNearEnd(Runnable onNearEnd) {
+        this.onNearEnd = onNearEnd;
+    }
+
+    /**
+     * Pauses or resumes image requests, e.g. while the grid's screen is hidden.
+     * On resume, visible cards whose image was never requested load it.
+     *
+     * @param paused Whether cards and prefetches should stop requesting images
+     */
+    public void setImageLoadingPaused(boolean paused) {
+        if (imageLoadingPaused == paused) {
+            return;
+        }
+        imageLoadingPaused = paused;
+        if (!paused) {
+            // Re-binding a card to its own item only requests the image if it was never requested
+            for (RowCell cell : rowCells) {
+                // Spare cells kept by the list view for reuse are hidden
+                if (cell.isEmpty() || !cell.isVisible()) {
+                    continue;
+                }
+                for (Card card : cell.cards) {
+                    card.bind(card.item);
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts loading the card-sized images of items that are not shown yet, so they appear
+     * instantly once scrolled into view. Does nothing while image loading is paused.
+     *
+     * @param upcoming Items expected to be shown soon
+     */
+    public void prefetchImages(List<T> upcoming) {
+        if (imageLoadingPaused) {
+            return;
+        }
+        for (T item : upcoming) {
+            String url = item.getImageUrl();
+            if (url != null && !url.isEmpty()) {
+                ImageCache.shared().load(url, imageWidth(), imageHeight(), image -> { });
+            }
+        }
+    }
+
+    /**
+     * @return Number of cards per row for the current width
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    private void relayout(double width) {
+        int fitting = (int) Math.max(1, Math.floor((width - 2 * PADDING - GAP) / (CARD_WIDTH + GAP)));
+        if (fitting != columns) {
+            columns = fitting;
+            rebuildRows();
+        }
+    }
+
+    /**
+     * Splits the items into rows of {@link #columns} cards. Rows only hold their number, so no items are copied.
+     */
+    private void rebuildRows() {
+        int rowCount = rowCount();
+        List<Integer> rowNumbers = new ArrayList<>(rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            rowNumbers.add(row);
+        }
+        rows.setAll(rowNumbers);
+    }
+
+    private int rowCount() {
+        return (items.size() + columns - 1) / columns;
+    }
+
+    /**
+     * Decode size of card images in device pixels, or 0 for full resolution when decoding at card size is off.
+     */
+    private static double imageWidth() {
+        return Math.max(80, CARD_WIDTH - 40) * decodeScale();
+    }
+
+    private static double imageHeight() {
+        return Math.max(80, CARD_HEIGHT - 80) * decodeScale();
+    }
+
+    private static double decodeScale() {
+        // Decode at the size actually drawn (in device pixels) so each card holds a thumbnail, not the full image
+        return CacheConfig.isDecodeAtCardSize() ? Screen.getPrimary().getOutputScaleX() : 0;
+    }
+
+    /**
+     * One visible row. Keeps its cards across updates and only adds or hides cards when the column count changes.
+     */
+    private final class RowCell extends ListCell<Integer> {
+        private final HBox box = new HBox(GAP);
+        private final List<Card> cards = new ArrayList<>();
+
+        private RowCell() {
+            getStyleClass().add("card-grid-row");
+            box.setAlignment(Pos.TOP_CENTER);
+            box.setPadding(new Insets(0, PADDING, GAP, PADDING));
+            setText(null);
+        }
+
+        @Override
+        protected void updateItem(Integer rowNumber, boolean empty) {
+            super.updateItem(rowNumber, empty);
+            int from = rowNumber == null ? 0 : rowNumber * columns;
+            if (empty || rowNumber == null || from >= items.size()) {
+                for (Card card : cards) {
+                    card.bind(null);
+                }
+                setGraphic(null);
+                return;
+            }
+
+            List<T> row = items.subList(from, Math.min(from + columns, items.size()));
+            while (cards.size() < row.size()) {
+                Card card = new Card();
+                cards.add(card);
+                box.getChildren().add(card);
+            }
+            for (int i = 0; i < cards.size(); i++) {
+                Card card = cards.get(i);
+                boolean used = i < row.size();
+                card.bind(used ? row.get(i) : null);
+                card.setVisible(used);
+                card.setManaged(used);
+            }
+            setGraphic(box);
+
+            if (onNearEnd != null && rowNumber >= rows.size() - 1 - NEAR_END_ROWS) {
+                Platform.runLater(onNearEnd);
+            }
+        }
+    }
+
+    /**
+     * A recyclable image card. Ignores images that arrive after the card was re-bound to another item.
+     */
+    private final class Card extends StackPane {
+        private final ImageView imageView = new ImageView();
+        private final Label nameLabel = new Label();
+        private T item;
+        private boolean imageRequested;
+
+        private Card() {
+            getStyleClass().add("card-wrapper");
+            setPrefSize(CARD_WIDTH, CARD_HEIGHT);
+            setMaxSize(CARD_WIDTH, CARD_HEIGHT);
+
+            VBox content = new VBox(8);
+            content.getStyleClass().add("item-card");
+            content.setPadding(new Insets(8));
+            content.setPrefSize(CARD_WIDTH, CARD_HEIGHT);
+            content.setAlignment(Pos.CENTER);
+
+            imageView.getStyleClass().add("item-image");
+            imageView.setPreserveRatio(true);
+            imageView.setFitWidth(Math.max(80, CARD_WIDTH - 40));
+            imageView.setFitHeight(Math.max(80, CARD_HEIGHT - 80));
+
+            nameLabel.getStyleClass().add("item-name");
+            nameLabel.setWrapText(true);
+            nameLabel.setMaxWidth(CARD_WIDTH - 20);
+
+            content.getChildren().addAll(imageView, nameLabel);
+            getChildren().add(content);
+
+            setOnMouseClicked(evt -> {
+                if (item != null && onItemSelected != null) {
+                    onItemSelected.accept(item);
+                }
+            });
+        }
+
+        private void bind(T newItem) {
+            if (newItem != item) {
+                item = newItem;
+                imageRequested = false;
+                imageView.setImage(null);
+                nameLabel.setText(newItem == null || newItem.getDisplayName() == null ? "" : newItem.getDisplayName());
+            }
+            if (item == null || imageRequested || imageLoadingPaused) {
+                return;
+            }
+
+            String url = item.getImageUrl();
+            if (url == null || url.isEmpty()) {
+                return;
+            }
+            imageRequested = true;
+            T requestedFor = item;
+            ImageCache.shared().load(url, imageWidth(), imageHeight(), image -> {
+                if (item == requestedFor) {
+                    imageView.setImage(image);
+                }
+            });
+        }
+    }
+
+    /**
+     * Read-only concatenation of appended lists, kept by reference. Lookups are a binary search over chunk starts.
+     */
+    private static final class ChunkedList<E> extends AbstractList<E> implements RandomAccess {
+        private final List<List<E>> chunks = new ArrayList<>();
+        private final List<Integer> starts = new ArrayList<>();
+        private int size;
+
+        private void addChunk(List<E> chunk) {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            starts.add(size);
+            chunks.add(chunk);
+            size += chunk.size();
+        }
+
+        @Override
+        public void clear() {
+            chunks.clear();
+            starts.clear();
+            size = 0;
+        }
+
+        @Override
+        public E get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+            }
+            int chunk = Collections.binarySearch(starts, index);
+            if (chunk < 0) {
+                chunk = -chunk - 2;
+            }
+            return chunks.get(chunk).get(index - starts.get(chunk));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package eldenring.poc.screens;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pages a list screen has fetched, written by scheduler threads and read on the JavaFX thread.
+ * Cancelling a screen's loads only drops queued ones, so a load that is already running still delivers
+ * its page after the screen was disposed. Loads therefore capture the cache generation when they are queued,
+ * and {@link #clear()} starts a new generation: pages stored by older loads are discarded.
+ *
+ * @param <T> The model type of the pages
+ */
+final class PageCache<T> {
+    private final Map<Integer, List<T>> pages = new ConcurrentHashMap<>();
+    private final AtomicInteger generation = new AtomicInteger();
+
+    /**
+     * @return The current generation, to pass to {@link #put} once the page is fetched
+     */
+    int generation() {
+        return generation.get();
+    }
+
+    /**
+     * @return The cached page, or null if it was not fetched in the current generation
+     */
+    List<T> get(int page) {
+        return pages.get(page);
+    }
+
+    boolean contains(int page) {
+        return pages.containsKey(page);
+    }
+
+    /**
+     * Stores a page unless the cache was cleared after the load was queued.
+     *
+     * @param loadGeneration Generation returned by {@link #generation()} when the load was queued
+     * @param page Page number (0-based)
+     * @param items Items of the page
+     * @return Whether the page was kept
+     */
+    boolean put(int loadGeneration, int page, List<T> items) {
+        if (loadGeneration != generation.get()) {
+            return false;
+        }
+        pages.put(page, items);
+        // clear() may have run between the check and the put; it bumps the generation before clearing
+        if (loadGeneration != generation.get()) {
+            pages.remove(page, items);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Drops every page and starts a new generation.
+     */
+    void clear() {
+        generation.incrementAndGet();
+        pages.clear();
+    }
+
+    int size() {
+        return pages.size();
+    }
+}
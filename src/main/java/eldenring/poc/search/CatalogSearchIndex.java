@@ -0,0 +1,279 @@
+package eldenring.poc.search;
+
+import eldenring.poc.config.UiConfig;
+import eldenring.poc.models.BaseModel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * In-memory inverted index over the display names of every cached catalog category.
+ * Names are split into lower-case alphanumeric tokens; a query matches an item when every query token
+ * is a prefix of one of the item's tokens, so "rott wing" finds "Rotten Winged Sword Insignia".
+ * Each category is indexed separately as an immutable snapshot that is swapped in when the category is
+ * (re)cached, so searches never lock and a re-scrape only re-indexes its own category.
+ * Building a category's index reads every name once, which decodes every item of a memory-mapped category,
+ * and keeps the normalized names, token postings and a fuzzy matcher on the heap. Categories are therefore
+ * only registered when they are (re)cached and indexed on the first search (or {@link #prepare()}) after that,
+ * so restoring snapshots at startup decodes nothing for search. Results are looked up by position in the
+ * category lists, so only the returned items are materialized.
+ * When fewer exact matches than requested are found, the remaining places are filled with
+ * misspelled matches from a {@link FuzzyNameMatcher} kept per category.
+ */
+public final class CatalogSearchIndex {
+    private static final Logger LOGGER = Logger.getLogger(CatalogSearchIndex.class.getName());
+    private static final CatalogSearchIndex SHARED = new CatalogSearchIndex();
+
+    private final Map<String, PendingIndex> categories = new ConcurrentHashMap<>();
+
+    /**
+     * @return The index filled by every service
+     */
+    public static CatalogSearchIndex shared() {
+        return SHARED;
+    }
+
+    /**
+     * Registers (or re-registers) a category, replacing its previous entries. The category is indexed
+     * by the next search or {@link #prepare()}, not here.
+     *
+     * @param category Category cache key (e.g. "talisman")
+     * @param items Every item of the category; kept by reference, so it must not change afterwards
+     */
+    public void index(String category, List<? extends BaseModel> items) {
+        categories.put(category, new PendingIndex(category, items));
+    }
+
+    /**
+     * Indexes every category registered since it was last searched, so the next search does not have to.
+     * Meant to run off the JavaFX thread, e.g. when a search field gets focus.
+     */
+    public void prepare() {
+        for (PendingIndex pending : categories.values()) {
+            pending.get();
+        }
+    }
+
+    /**
+     * Removes a category from the index.
+     */
+    public void remove(String category) {
+        categories.remove(category);
+    }
+
+    /**
+     * Finds items across all indexed categories whose names match every token of the query.
+     * Categories not indexed yet are indexed first, so this should not run on the JavaFX thread.
+     * Results are ranked: exact name, then names starting with the query, then other matches, then
+     * misspelled matches by edit distance; shorter names first within each rank.
+     *
+     * @param query Free text, e.g. "rotten insig"
+     * @param limit Maximum number of results
+     * @return Matching items, best first; empty for a blank query
+     */
+    public List<SearchResult> search(String query, int limit) {
+        String[] queryTokens = tokenize(query);
+        if (queryTokens.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        String normalizedQuery = String.join(" ", queryTokens);
+        List<Match> matches = new ArrayList<>();
+        Map<CategoryIndex, BitSet> exactMatches = new HashMap<>();
+        for (PendingIndex pending : categories.values()) {
+            CategoryIndex index = pending.get();
+            exactMatches.put(index, index.collect(queryTokens, normalizedQuery, matches));
+        }
+        if (matches.size() < limit && UiConfig.isFuzzySearchEnabled()) {
+            exactMatches.forEach((index, exact) -> index.collectFuzzy(query, limit, exact, matches));
+        }
+        matches.sort(Comparator.comparingInt((Match m) -> m.rank)
+                .thenComparingInt(m -> m.nameLength)
+                .thenComparing(m -> m.normalizedName));
+
+        List<SearchResult> results = new ArrayList<>(Math.min(limit, matches.size()));
+        for (int i = 0; i < matches.size() && results.size() < limit; i++) {
+            Match match = matches.get(i);
+            results.add(new SearchResult(match.index.category, match.index.items.get(match.position)));
+        }
+        return results;
+    }
+
+    /**
+     * @return Number of indexed items across all categories
+     */
+    public int size() {
+        int size = 0;
+        for (PendingIndex pending : categories.values()) {
+            size += pending.items.size();
+        }
+        return size;
+    }
+
+    static String[] tokenize(String text) {
+        if (text == null) {
+            return new String[0];
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    /**
+     * A registered category, indexed once on first use.
+     */
+    private static final class PendingIndex {
+        private final String category;
+        private final List<? extends BaseModel> items;
+        private volatile CategoryIndex index;
+
+        private PendingIndex(String category, List<? extends BaseModel> items) {
+            this.category = category;
+            this.items = items;
+        }
+
+        CategoryIndex get() {
+            CategoryIndex built = index;
+            if (built == null) {
+                synchronized (this) {
+                    built = index;
+                    if (built == null) {
+                        long start = System.nanoTime();
+                        built = CategoryIndex.build(category, items);
+                        index = built;
+                        LOGGER.fine("Indexed " + items.size() + " " + category + " items in "
+                                + TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start) + " us");
+                    }
+                }
+            }
+            return built;
+        }
+    }
+
+    /**
+     * Immutable index of one category: sorted distinct tokens, each with the positions of the items containing it.
+     */
+    private static final class CategoryIndex {
+        private final String category;
+        private final List<? extends BaseModel> items;
+        private final String[] normalizedNames;
+        private final String[] tokens;
+        private final int[][] postings;
+        private final FuzzyNameMatcher fuzzy;
+
+        private CategoryIndex(String category, List<? extends BaseModel> items, String[] normalizedNames,
+                              String[] tokens, int[][] postings) {
+            this.category = category;
+            this.items = items;
+            this.normalizedNames = normalizedNames;
+            this.tokens = tokens;
+            this.postings = postings;
+            this.fuzzy = FuzzyNameMatcher.build(Arrays.asList(normalizedNames));
+        }
+
+        static CategoryIndex build(String category, List<? extends BaseModel> items) {
+            String[] normalizedNames = new String[items.size()];
+            Map<String, List<Integer>> positionsByToken = new HashMap<>();
+            for (int i = 0; i < items.size(); i++) {
+                String[] nameTokens = tokenize(items.get(i).getDisplayName());
+                normalizedNames[i] = String.join(" ", nameTokens);
+                for (String token : nameTokens) {
+                    List<Integer> positions = positionsByToken.computeIfAbsent(token, k -> new ArrayList<>());
+                    if (positions.isEmpty() || positions.get(positions.size() - 1) != i) {
+                        positions.add(i);
+                    }
+                }
+            }
+
+            String[] tokens = positionsByToken.keySet().toArray(new String[0]);
+            Arrays.sort(tokens);
+            int[][] postings = new int[tokens.length][];
+            for (int t = 0; t < tokens.length; t++) {
+                postings[t] = positionsByToken.get(tokens[t]).stream().mapToInt(Integer::intValue).toArray();
+            }
+            return new CategoryIndex(category, items, normalizedNames, tokens, postings);
+        }
+
+        /**
+         * @return Positions of the items added to {@code out}
+         */
+        BitSet collect(String[] queryTokens, String normalizedQuery, List<Match> out) {
+            BitSet candidates = null;
+            for (String queryToken : queryTokens) {
+                BitSet matching = itemsWithTokenPrefix(queryToken);
+                if (candidates == null) {
+                    candidates = matching;
+                } else {
+                    candidates.and(matching);
+                }
+                if (candidates.isEmpty()) {
+                    return candidates;
+                }
+            }
+
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                String name = normalizedNames[i];
+                int rank = name.equals(normalizedQuery) ? 0 : name.startsWith(normalizedQuery) ? 1 : 2;
+                out.add(new Match(this, i, rank, name));
+            }
+            return candidates;
+        }
+
+        /**
+         * Adds misspelled matches, ranked after every exact match by their edit distance.
+         *
+         * @param exact Positions already matched exactly, which are skipped
+         */
+        void collectFuzzy(String query, int limit, BitSet exact, List<Match> out) {
+            for (FuzzyNameMatcher.Candidate candidate : fuzzy.match(query, limit + exact.cardinality())) {
+                if (!exact.get(candidate.getIndex())) {
+                    out.add(new Match(this, candidate.getIndex(), 3 + candidate.getDistance(),
+                            normalizedNames[candidate.getIndex()]));
+                }
+            }
+        }
+
+        /**
+         * Tokens sharing a prefix are contiguous in the sorted token array, so a prefix is one binary search
+         * followed by a scan of the matching run.
+         */
+        private BitSet itemsWithTokenPrefix(String prefix) {
+            BitSet matching = new BitSet(items.size());
+            int t = Arrays.binarySearch(tokens, prefix);
+            if (t < 0) {
+                t = -t - 1;
+            }
+            for (; t < tokens.length && tokens[t].startsWith(prefix); t++) {
+                for (int position : postings[t]) {
+                    matching.set(position);
+                }
+            }
+            return matching;
+        }
+    }
+
+    private static final class Match {
+        private final CategoryIndex index;
+        private final int position;
+        private final int rank;
+        private final int nameLength;
+        private final String normalizedName;
+
+        private Match(CategoryIndex index, int position, int rank, String normalizedName) {
+            this.index = index;
+            this.position = position;
+            this.rank = rank;
+            this.nameLength = normalizedName.length();
+            this.normalizedName = normalizedName;
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package eldenring.poc.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Typo-tolerant name lookup over a fixed list of names, for queries typed one keystroke at a time.
+ * Every query word may be misspelled by a few edits (none for words up to 3 letters, 1 up to 6, then 2)
+ * and is compared with the beginning of the name words, so "soresel" finds "Marika's Soreseal" and
+ * "lions cla" finds "Ash of War: Lion's Claw" while the last word is still being typed.
+ * The distinct words of all names are indexed by their trigrams: an edit changes at most three trigrams,
+ * so only words sharing enough trigrams with a query word are compared with it, instead of every word
+ * of every name. Instances are immutable and safe to query from any thread.
+ */
+public final class FuzzyNameMatcher {
+    private static final String PAD = "^^";
+    private static final int[] NO_POSTINGS = new int[0];
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final int nameCount;
+    private final int[] nameLengths;
+    private final String[] words;
+    private final int[][] namesByWord;
+    private final Map<String, int[]> wordsByTrigram;
+
+    private FuzzyNameMatcher(int nameCount, int[] nameLengths, String[] words, int[][] namesByWord,
+                             Map<String, int[]> wordsByTrigram) {
+        this.nameCount = nameCount;
+        this.nameLengths = nameLengths;
+        this.words = words;
+        this.namesByWord = namesByWord;
+        this.wordsByTrigram = wordsByTrigram;
+    }
+
+    /**
+     * Builds a matcher over the names. Results refer to names by their position in this list.
+     *
+     * @param names Names to match against, e.g. item display names
+     * @return The matcher
+     */
+    public static FuzzyNameMatcher build(List<String> names) {
+        int[] nameLengths = new int[names.size()];
+        Map<String, Integer> wordIds = new HashMap<>();
+        List<String> words = new ArrayList<>();
+        List<IntList> namesByWord = new ArrayList<>();
+
+        for (int n = 0; n < names.size(); n++) {
+            String name = names.get(n);
+            nameLengths[n] = name == null ? 0 : name.length();
+            for (String word : CatalogSearchIndex.tokenize(name)) {
+                Integer id = wordIds.get(word);
+                if (id == null) {
+                    id = words.size();
+                    wordIds.put(word, id);
+                    words.add(word);
+                    namesByWord.add(new IntList());
+                }
+                namesByWord.get(id).addIfNotLast(n);
+            }
+        }
+
+        Map<String, IntList> trigramPostings = new HashMap<>();
+        for (int w = 0; w < words.size(); w++) {
+            for (String trigram : trigrams(words.get(w))) {
+                trigramPostings.computeIfAbsent(trigram, k -> new IntList()).addIfNotLast(w);
+            }
+        }
+        Map<String, int[]> wordsByTrigram = new HashMap<>(trigramPostings.size() * 2);
+        trigramPostings.forEach((trigram, postings) -> wordsByTrigram.put(trigram, postings.toArray()));
+
+        int[][] namePostings = new int[words.size()][];
+        for (int w = 0; w < words.size(); w++) {
+            namePostings[w] = namesByWord.get(w).toArray();
+        }
+        return new FuzzyNameMatcher(names.size(), nameLengths, words.toArray(new String[0]), namePostings,
+                wordsByTrigram);
+    }
+
+    /**
+     * Finds the names matching every word of the query within the allowed number of edits.
+     * Candidates are ranked by total edit distance, then by shorter name.
+     *
+     * @param query Free text as typed, e.g. "marikas sore"
+     * @param limit Maximum number of candidates
+     * @return Matching candidates, best first; empty for a blank query
+     */
+    public List<Candidate> match(String query, int limit) {
+        String[] queryWords = CatalogSearchIndex.tokenize(query);
+        if (queryWords.length == 0 || limit <= 0 || nameCount == 0) {
+            return List.of();
+        }
+
+        Scratch scratch = SCRATCH.get().ensureCapacity(nameCount, words.length);
+        IntList touchedNames = scratch.touchedNames;
+        try {
+            for (int q = 0; q < queryWords.length; q++) {
+                long[] wordMatches = matchWord(queryWords[q], scratch);
+                if (wordMatches.length == 0) {
+                    return List.of();
+                }
+                // Closest words come first, so the first word seen for a name gives its distance for this query word
+                for (long wordMatch : wordMatches) {
+                    int distance = (int) (wordMatch >>> 32);
+                    for (int name : namesByWord[(int) wordMatch]) {
+                        if (scratch.matchedWords[name] == q) {
+                            if (q == 0) {
+                                touchedNames.add(name);
+                            }
+                            scratch.matchedWords[name] = q + 1;
+                            scratch.distances[name] += distance;
+                        }
+                    }
+                }
+            }
+            return rank(queryWords.length, limit, scratch);
+        } finally {
+            for (int i = 0; i < touchedNames.size; i++) {
+                scratch.matchedWords[touchedNames.values[i]] = 0;
+                scratch.distances[touchedNames.values[i]] = 0;
+            }
+            touchedNames.size = 0;
+        }
+    }
+
+    private List<Candidate> rank(int queryWordCount, int limit, Scratch scratch) {
+        IntList touchedNames = scratch.touchedNames;
+        long[] ranked = new long[touchedNames.size];
+        int count = 0;
+        for (int i = 0; i < touchedNames.size; i++) {
+            int name = touchedNames.values[i];
+            if (scratch.matchedWords[name] == queryWordCount) {
+                ranked[count++] = (long) Math.min(scratch.distances[name], 0x7FFF) << 48
+                        | (long) Math.min(nameLengths[name], 0xFFFF) << 32
+                        | name;
+            }
+        }
+        Arrays.sort(ranked, 0, count);
+
+        List<Candidate> candidates = new ArrayList<>(Math.min(limit, count));
+        for (int i = 0; i < count && candidates.size() < limit; i++) {
+            candidates.add(new Candidate((int) ranked[i], (int) (ranked[i] >>> 48)));
+        }
+        return candidates;
+    }
+
+    /**
+     * @return Number of names the matcher was built from
+     */
+    public int size() {
+        return nameCount;
+    }
+
+    /**
+     * @return Number of distinct words across all names
+     */
+    public int getWordCount() {
+        return words.length;
+    }
+
+    /**
+     * Maximum edits tolerated in a query word: short words must be typed exactly.
+     */
+    static int allowedEdits(int length) {
+        return length <= 3 ? 0 : length <= 6 ? 1 : 2;
+    }
+
+    /**
+     * @return Indexed words whose beginning is within the allowed edits of the query word, each packed as
+     *         (distance &lt;&lt; 32 | word id) and sorted closest first
+     */
+    private long[] matchWord(String queryWord, Scratch scratch) {
+        int maxEdits = allowedEdits(queryWord.length());
+        Set<String> queryTrigrams = trigrams(queryWord);
+        int minShared = Math.max(1, queryTrigrams.size() - 3 * maxEdits);
+
+        int[] shared = scratch.sharedTrigrams;
+        IntList touched = scratch.touchedWords;
+        touched.size = 0;
+        for (String trigram : queryTrigrams) {
+            for (int word : wordsByTrigram.getOrDefault(trigram, NO_POSTINGS)) {
+                if (shared[word]++ == 0) {
+                    touched.add(word);
+                }
+            }
+        }
+
+        long[] matches = new long[touched.size];
+        int count = 0;
+        for (int i = 0; i < touched.size; i++) {
+            int word = touched.values[i];
+            int sharedCount = shared[word];
+            shared[word] = 0;
+            if (sharedCount < minShared) {
+                continue;
+            }
+            int distance = prefixDistance(queryWord, words[word], maxEdits);
+            if (distance <= maxEdits) {
+                matches[count++] = (long) distance << 32 | word;
+            }
+        }
+        Arrays.sort(matches, 0, count);
+        return Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * Edit distance between the query word and the closest beginning of the word, giving up once
+     * it exceeds {@code maxEdits}.
+     *
+     * @return The distance, or {@code maxEdits + 1} if it is larger than {@code maxEdits}
+     */
+    static int prefixDistance(String query, String word, int maxEdits) {
+        int m = query.length();
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int i = 0; i <= m; i++) {
+            previous[i] = i;
+        }
+
+        int best = previous[m];
+        int maxPrefix = Math.min(word.length(), m + maxEdits);
+        for (int j = 1; j <= maxPrefix; j++) {
+            char c = word.charAt(j - 1);
+            current[0] = j;
+            int rowMin = current[0];
+            for (int i = 1; i <= m; i++) {
+                int substitution = previous[i - 1] + (query.charAt(i - 1) == c ? 0 : 1);
+                current[i] = Math.min(substitution, Math.min(previous[i], current[i - 1]) + 1);
+                rowMin = Math.min(rowMin, current[i]);
+            }
+            best = Math.min(best, current[m]);
+            // Row minimums never decrease, so no longer prefix can come back within the bound
+            if (rowMin > maxEdits) {
+                break;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(best, maxEdits + 1);
+    }
+
+    /**
+     * Trigrams of the word padded at the start, so a word of n letters has n trigrams and its
+     * first letters carry as much weight as the others.
+     */
+    private static Set<String> trigrams(String word) {
+        String padded = PAD + word;
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * A matched name: its position in the list the matcher was built from, and the summed edit distance
+     * of the query words.
+     */
+    public static final class Candidate {
+        private final int index;
+        private final int distance;
+
+        Candidate(int index, int distance) {
+            this.index = index;
+            this.distance = distance;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+    }
+
+    /**
+     * Per-thread work arrays reused across queries, so a keystroke allocates nothing proportional to
+     * the catalog size. Every query resets the entries it touched before returning.
+     */
+    private static final class Scratch {
+        private int[] distances = new int[0];
+        private int[] matchedWords = new int[0];
+        private int[] sharedTrigrams = new int[0];
+        private final IntList touchedNames = new IntList();
+        private final IntList touchedWords = new IntList();
+
+        Scratch ensureCapacity(int names, int words) {
+            if (distances.length < names) {
+                distances = new int[names];
+                matchedWords = new int[names];
+            }
+            if (sharedTrigrams.length < words) {
+                sharedTrigrams = new int[words];
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Growable int array, used for postings and query bookkeeping.
+     */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        /**
+         * Adds the value unless it was the last one added, so a name repeating a word is listed once.
+         */
+        void addIfNotLast(int value) {
+            if (size == 0 || values[size - 1] != value) {
+                add(value);
+            }
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
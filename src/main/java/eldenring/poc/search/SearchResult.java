@@ -0,0 +1,27 @@
+package eldenring.poc.search;
+
+import eldenring.poc.models.BaseModel;
+
+/**
+ * A catalog item matched by a search, with the category it belongs to.
+ */
+public class SearchResult {
+    private final String category;
+    private final BaseModel item;
+
+    public SearchResult(String category, BaseModel item) {
+        this.category = category;
+        this.item = item;
+    }
+
+    /**
+     * @return Category cache key of the item (e.g. "talisman")
+     */
+    public String getCategory() {
+        return category;
+    }
+
+    public BaseModel getItem() {
+        return item;
+    }
+}
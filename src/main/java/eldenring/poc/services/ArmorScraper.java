@@ -38,7 +38,7 @@ public class ArmorScraper extends BaseScraper {
         try {
             logger.info("Starting armor scraping from: " + ARMOR_PAGE_URL);
 
-            driver = createWebDriver();
+            driver = borrowDriver();
             driver.get(ARMOR_PAGE_URL);
 
             // Wait for page to load
@@ -94,7 +94,7 @@ public class ArmorScraper extends BaseScraper {
         } catch (Exception e) {
             logger.log(Level.SEVERE, "Failed to scrape armors", e);
         } finally {
-            quitDriver(driver);
+            returnDriver(driver);
         }
 
         return armors;
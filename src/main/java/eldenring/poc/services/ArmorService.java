@@ -5,22 +5,33 @@ import eldenring.poc.scrapers.ArmorScraper;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-public class ArmorService extends BaseService {
+public class ArmorService extends BaseService<ArmorBase> {
     private static final Logger LOGGER = Logger.getLogger(ArmorService.class.getName());
-    private static final String CACHE_KEY_PAGE_PREFIX = "armor/page/";
+    private static final String CACHE_KEY = "armor";
 
     private final ArmorScraper scraper = new ArmorScraper();
 
     public ArmorService() {
-        super(LOGGER);
+        super(LOGGER, CACHE_KEY, ArmorBase::new);
+    }
+
+    @Override
+    protected List<ArmorBase> scrapeAll() {
+        return scraper.scrapeArmors();
+    }
+
+    @Override
+    protected List<ArmorBase> scrapeAll(Consumer<List<ArmorBase>> sink) {
+        return scraper.scrapeArmors(sink);
     }
 
     /**
      * Fetches armors for the specified page with pagination.
-     * First checks cache, if not found, scrapes data and caches it in page-sized chunks.
+     * First checks cache, if not found, scrapes data (once, even for concurrent callers) and caches the whole category.
      *
      * @param limit Number of items per page
      * @param page Page number (0-based)
@@ -28,33 +39,7 @@ public class ArmorService extends BaseService {
      */
     public List<ArmorBase> fetchArmors(int limit, int page) {
         try {
-            String pageKey = buildPageKey(CACHE_KEY_PAGE_PREFIX, page);
-            List<ArmorBase> cachedPage = getCachedPage(pageKey);
-
-            if (cachedPage != null) {
-                LOGGER.info("Returning cached data for page " + page + " (size: " + limit + ")");
-                return cachedPage;
-            }
-
-            LOGGER.info("Cache miss for page " + page + " - scraping armor data from wiki...");
-            List<ArmorBase> allArmors = scraper.scrapeArmors();
-
-            if (allArmors == null || allArmors.isEmpty()) {
-                LOGGER.warning("No armor data scraped");
-                return Collections.emptyList();
-            }
-
-            LOGGER.info("Scraped " + allArmors.size() + " armor items");
-
-            cacheAllPagesInChunks(allArmors, limit, CACHE_KEY_PAGE_PREFIX);
-
-            List<ArmorBase> result = getCachedPage(pageKey);
-            if (result == null) {
-                LOGGER.warning("Requested page still not found in cache after caching attempt: " + pageKey);
-                return Collections.emptyList();
-            }
-
-            return result;
+            return fetchPage(limit, page);
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Failed to fetch armors", e);
             return Collections.emptyList();
@@ -1,14 +1,13 @@
 package eldenring.poc.services;
 
+import eldenring.poc.scrapers.WebDriverPool;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 
 import java.util.logging.Logger;
 
 /**
  * Abstract base scraper with common Selenium configuration.
- * Provides headless Chrome WebDriver setup.
+ * Headless Chrome sessions are borrowed from the shared {@link WebDriverPool}.
  */
 public abstract class BaseScraper {
     protected final Logger logger;
@@ -18,30 +17,20 @@ public abstract class BaseScraper {
     }
 
     /**
-     * Creates a configured headless Chrome WebDriver instance.
+     * Borrows a headless Chrome WebDriver from the shared pool.
      *
-     * @return Configured WebDriver instance
+     * @return WebDriver instance that must be handed back with {@link #returnDriver(WebDriver)}
      */
-    protected WebDriver createWebDriver() {
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--headless");
-        options.addArguments("--disable-gpu");
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        options.addArguments("--window-size=1920,1080");
-
-        return new ChromeDriver(options);
+    protected WebDriver borrowDriver() {
+        return WebDriverPool.shared().borrow();
     }
 
     /**
-     * Safely quits the WebDriver if it's not null.
+     * Safely returns the WebDriver to the shared pool if it's not null.
      *
-     * @param driver WebDriver instance to quit
+     * @param driver WebDriver instance to return
      */
-    protected void quitDriver(WebDriver driver) {
-        if (driver != null) {
-            driver.quit();
-        }
+    protected void returnDriver(WebDriver driver) {
+        WebDriverPool.shared().release(driver);
     }
 }
-
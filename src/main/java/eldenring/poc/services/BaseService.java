@@ -1,56 +1,327 @@
 package eldenring.poc.services;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
+import eldenring.poc.catalog.ColumnarCatalog;
+import eldenring.poc.config.CacheConfig;
+import eldenring.poc.config.ScraperConfig;
+import eldenring.poc.models.BaseModel;
+import eldenring.poc.persistence.CatalogSnapshot;
+import eldenring.poc.persistence.CatalogSnapshotStore;
+import eldenring.poc.search.CatalogSearchIndex;
+import eldenring.poc.tasks.TaskPriority;
+import eldenring.poc.tasks.TaskScheduler;
 
+import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
-public class BaseService {
-    protected static final Cache<String, Object> CACHE = Caffeine.newBuilder()
-            .expireAfterWrite(30, TimeUnit.MINUTES)
-            .maximumSize(100)
-            .build();
+/**
+ * Base service for a catalog category: caching, on-disk snapshots, single-flight scraping and pagination.
+ *
+ * @param <T> The model type of the category
+ */
+public abstract class BaseService<T extends BaseModel> {
+    /**
+     * Page size used by the list screens and by the startup warmup.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    /**
+     * Scrapes currently running, keyed by category, so concurrent misses share one scrape.
+     */
+    private static final ConcurrentMap<String, CategoryLoad<?>> IN_FLIGHT = new ConcurrentHashMap<>();
+
+    /**
+     * Runs scrapes started by page requests and background refreshes, so the requester can return the first pages
+     * while the scrape continues. Sized to the WebDriver pool: more concurrent scrapes would only wait for a browser.
+     * Separate from the shared scheduler, whose page tasks wait on these scrapes and must not take their threads.
+     */
+    private static final TaskScheduler SCRAPE_SCHEDULER = new TaskScheduler("catalog-scrape", ScraperConfig.getPoolMaxSize());
 
     protected final Logger logger;
+    protected final String categoryKey;
+    private final BiFunction<String, String, T> modelFactory;
+    private final CategoryCache<T> cache;
 
-    public BaseService(Logger logger) {
+    /**
+     * @param logger Logger instance for this service
+     * @param categoryKey Cache key of the category (e.g. "ammo")
+     * @param modelFactory Creates a model from its display name and image URL, used to restore snapshots
+     */
+    protected BaseService(Logger logger, String categoryKey, BiFunction<String, String, T> modelFactory) {
         this.logger = logger;
+        this.categoryKey = categoryKey;
+        this.modelFactory = modelFactory;
+        this.cache = CacheRegistry.forCategory(categoryKey);
     }
 
-    @SuppressWarnings("unchecked")
-    protected <T> List<T> getCachedPage(String pageKey) {
-        return (List<T>) CACHE.getIfPresent(pageKey);
+    /**
+     * Scrapes every item of the category from the wiki.
+     *
+     * @return Scraped items, or an empty list if nothing could be scraped
+     */
+    protected abstract List<T> scrapeAll();
+
+    /**
+     * Scrapes every item of the category, handing items to the sink as soon as they are extracted so the
+     * first pages can be shown before the scrape finishes. Services whose scraper extracts incrementally
+     * override this; by default the whole category is handed over in one batch at the end.
+     *
+     * @param sink Receives batches of extracted items, in category order
+     * @return Scraped items, or an empty list if nothing could be scraped
+     */
+    protected List<T> scrapeAll(Consumer<List<T>> sink) {
+        List<T> items = scrapeAll();
+        if (items != null && !items.isEmpty()) {
+            sink.accept(items);
+        }
+        return items;
+    }
+
+    protected List<T> getCachedCategory() {
+        return cache.get();
+    }
+
+    /**
+     * Returns the requested page. On a cache miss the category is restored from its on-disk snapshot,
+     * or scraped and cached if there is none. Each category is stored once, so any page size is served
+     * from the same scrape. Concurrent misses for the same category are coalesced: only the first caller
+     * loads, the others wait for it and share its result. A scrape streams its items, so a request returns
+     * as soon as its page has been extracted while the rest of the category keeps filling in the background.
+     * Cached data is always served as is; once it is older than the refresh interval, one background
+     * re-scrape replaces it (stale-while-revalidate), so no request waits on a scrape of data already cached.
+     * Stored categories hold columns rather than models, so the models of the page are materialized once here
+     * and stay the same objects for the caller.
+     *
+     * @param limit Number of items per page
+     * @param page Page number (0-based)
+     * @return Items of the requested page, or an empty list if there are none
+     */
+    protected List<T> fetchPage(int limit, int page) {
+        List<T> category = getCachedCategory();
+
+        if (category != null) {
+            logger.info("Returning cached data for page " + page + " (size: " + limit + ")");
+            refreshInBackgroundIfDue();
+        } else if (restoreSnapshot()) {
+            category = getCachedCategory();
+            refreshInBackgroundIfDue();
+        } else {
+            CategoryLoad<T> load = loadCategoryInBackground(false);
+            List<T> streamed = load.awaitPage(limit, page);
+            if (streamed != null) {
+                logger.info("Returning page " + page + " of " + categoryKey + " while the scrape continues");
+                return streamed;
+            }
+            category = load.join();
+        }
+
+        return List.copyOf(slicePage(category, limit, page));
+    }
+
+    /**
+     * Makes sure the category is cached and fresh: restores the snapshot if nothing is cached,
+     * then re-scrapes only if the data is due for a refresh, by the same policy {@link #fetchPage} applies.
+     */
+    public void warmUp() {
+        restoreSnapshot();
+        if (getCachedCategory() == null || cache.isRefreshDue(System.currentTimeMillis())) {
+            refresh();
+        } else {
+            logger.info("Cached " + categoryKey + " data is fresh - skipping scrape");
+        }
+    }
+
+    /**
+     * Re-scrapes the category and replaces the cached data. If the scrape yields nothing,
+     * the previously cached data is kept.
+     *
+     * @return The cached category after the refresh
+     */
+    public List<T> refresh() {
+        return loadCategoryOnce(true);
+    }
+
+    /**
+     * Loads the category snapshot into the cache if nothing is cached yet.
+     * The snapshot stays memory-mapped: items are decoded only when a page containing them is requested.
+     * The category is only registered with the search index, which decodes its names on the first search.
+     *
+     * @return true if the category is cached afterwards
+     */
+    public boolean restoreSnapshot() {
+        if (getCachedCategory() != null) {
+            return true;
+        }
+        if (!CacheConfig.isSnapshotEnabled()) {
+            return false;
+        }
+
+        Optional<CatalogSnapshot<T>> snapshot = CatalogSnapshotStore.shared().load(categoryKey, modelFactory);
+        if (snapshot.isEmpty() || snapshot.get().getItems().isEmpty()) {
+            return false;
+        }
+        List<T> category = cache.put(snapshot.get().getItems(), snapshot.get().getWrittenAtMillis());
+        CatalogSearchIndex.shared().index(categoryKey, category);
+        return true;
+    }
+
+    /**
+     * Returns a page as an O(1) view over the stored category list.
+     *
+     * @param category Full, immutable category list
+     * @param limit Number of items per page
+     * @param page Page number (0-based)
+     * @return Items of the requested page, or an empty list if the page is out of range
+     */
+    protected static <E> List<E> slicePage(List<E> category, int limit, int page) {
+        if (category == null || limit <= 0 || page < 0) {
+            return Collections.emptyList();
+        }
+        long from = (long) page * limit;
+        if (from >= category.size()) {
+            return Collections.emptyList();
+        }
+        int to = (int) Math.min(from + limit, category.size());
+        return category.subList((int) from, to);
     }
 
-    protected <T> void cacheAllPagesInChunks(List<T> allItems, int pageSize, String cacheKeyPrefix) {
-        int totalItems = allItems.size();
-        int totalPages = (int) Math.ceil((double) totalItems / pageSize);
+    /**
+     * @return Whether a load of this category (first load or background refresh) is in progress
+     */
+    boolean isLoading() {
+        return IN_FLIGHT.containsKey(categoryKey);
+    }
 
-        logger.info("Splitting " + totalItems + " items into " + totalPages + " pages (size: " + pageSize + ")");
+    /**
+     * Loads the category on the calling thread, or waits for the load already in progress.
+     */
+    private List<T> loadCategoryOnce(boolean forceScrape) {
+        CategoryLoad<T> load = new CategoryLoad<>(categoryKey, logger);
+        CategoryLoad<T> inFlight = claimLoad(load);
 
-        for (int pageNum = 0; pageNum < totalPages; pageNum++) {
-            int startIndex = pageNum * pageSize;
-            int endIndex = Math.min(startIndex + pageSize, totalItems);
+        if (inFlight != null) {
+            logger.info("Load of " + categoryKey + " already in progress - waiting for it");
+            return inFlight.join();
+        }
+        return runLoad(load, forceScrape);
+    }
+
+    /**
+     * Starts a background re-scrape if the cached data is older than the refresh interval and
+     * no failed refresh is backing off. The cached data keeps being served until the scrape replaces it.
+     */
+    private void refreshInBackgroundIfDue() {
+        if (cache.isRefreshDue(System.currentTimeMillis()) && !isLoading()) {
+            logger.info("Cached " + categoryKey + " data is due for a refresh - serving it while re-scraping in the background");
+            loadCategoryInBackground(true);
+        }
+    }
 
-            List<T> pageItems = allItems.subList(startIndex, endIndex);
+    /**
+     * Starts loading the category on a scrape thread, or joins the load already in progress.
+     * First loads have a caller waiting for their first page and are queued ahead of refreshes of cached data;
+     * a first load that joins a refresh still queued moves it up.
+     */
+    private CategoryLoad<T> loadCategoryInBackground(boolean forceScrape) {
+        CategoryLoad<T> load = new CategoryLoad<>(categoryKey, logger);
+        CategoryLoad<T> inFlight = claimLoad(load);
+        TaskPriority priority = forceScrape ? TaskPriority.WARMUP : TaskPriority.VISIBLE;
 
-            String pageKey = buildPageKey(cacheKeyPrefix, pageNum);
-            CACHE.put(pageKey, pageItems);
-            logger.fine("Cached page " + pageNum + " with " + pageItems.size() + " items");
+        if (inFlight != null) {
+            logger.info("Load of " + categoryKey + " already in progress - joining it");
+            CompletableFuture<?> task = inFlight.getTask();
+            if (task != null) {
+                SCRAPE_SCHEDULER.promote(task, priority);
+            }
+            return inFlight;
         }
+        load.setTask(SCRAPE_SCHEDULER.submit(priority, categoryKey, () -> {
+            try {
+                return runLoad(load, forceScrape);
+            } catch (RuntimeException e) {
+                // Also reported to every waiter through the load
+                logger.log(Level.WARNING, "Background load of " + categoryKey + " failed", e);
+                return null;
+            }
+        }));
+        return load;
+    }
 
-        logger.info("Successfully cached all " + totalPages + " pages");
+    /**
+     * @return The load already in progress for this category, or null if {@code load} was claimed
+     */
+    @SuppressWarnings("unchecked")
+    private CategoryLoad<T> claimLoad(CategoryLoad<T> load) {
+        return (CategoryLoad<T>) IN_FLIGHT.putIfAbsent(categoryKey, load);
     }
 
-    protected String buildPageKey(String prefix, int pageNumber) {
-        return prefix + pageNumber;
+    private List<T> runLoad(CategoryLoad<T> load, boolean forceScrape) {
+        try {
+            // Another caller may have finished loading between our cache check and claiming the slot
+            if (!forceScrape && restoreSnapshot()) {
+                List<T> category = getCachedCategory();
+                load.complete(category);
+                return category;
+            }
+
+            logger.info("Scraping " + categoryKey + " data from wiki...");
+            List<T> category = cacheCategory(scrapeAll(load::publish));
+            if (category.isEmpty() && getCachedCategory() != null) {
+                long retryMillis = cache.refreshFailed(System.currentTimeMillis());
+                logger.warning("Scrape of " + categoryKey + " returned nothing - keeping previously cached data, next refresh in "
+                        + retryMillis / 1000 + " s");
+                category = getCachedCategory();
+            }
+            load.complete(category);
+            return category;
+        } catch (RuntimeException e) {
+            if (getCachedCategory() != null) {
+                cache.refreshFailed(System.currentTimeMillis());
+            }
+            load.fail(e);
+            throw e;
+        } finally {
+            IN_FLIGHT.remove(categoryKey, load);
+        }
     }
 
+    /**
+     * Stores a scraped category once as an immutable {@link ColumnarCatalog}
+     * and persists it to disk in the background. The category is re-indexed for search, replacing only
+     * its own entries. Empty results are not cached so the next request retries the scrape.
+     *
+     * @param allItems Every scraped item of the category
+     * @return The stored list (empty if nothing was scraped)
+     */
+    protected List<T> cacheCategory(List<T> allItems) {
+        if (allItems == null || allItems.isEmpty()) {
+            logger.warning("No data scraped for " + categoryKey);
+            return Collections.emptyList();
+        }
+
+        List<T> category = cache.put(ColumnarCatalog.of(allItems, modelFactory), System.currentTimeMillis());
+        logger.info("Cached " + category.size() + " items for " + categoryKey);
+        CatalogSearchIndex.shared().index(categoryKey, category);
+
+        if (CacheConfig.isSnapshotEnabled()) {
+            CatalogSnapshotStore.shared().saveAsync(categoryKey, category);
+        }
+        return category;
+    }
+
+    /**
+     * Invalidates this category only. Other categories stay cached.
+     */
     public void clearCache() {
-        CACHE.invalidateAll();
-        logger.info("Cache cleared");
+        cache.invalidate();
+        CatalogSearchIndex.shared().remove(categoryKey);
+        logger.info("Cache cleared for " + categoryKey + " (" + cache.stats() + ")");
     }
 }
-
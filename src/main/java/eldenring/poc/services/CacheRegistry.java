@@ -0,0 +1,40 @@
+package eldenring.poc.services;
+
+import eldenring.poc.config.CacheConfig;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of the per-category caches. Every service instance of a category shares the same cache.
+ */
+public final class CacheRegistry {
+    private static final ConcurrentMap<String, CategoryCache<?>> CACHES = new ConcurrentHashMap<>();
+
+    private CacheRegistry() { }
+
+    /**
+     * Returns the cache of a category, creating it with the configured bounds on first use.
+     *
+     * @param category Category cache key (e.g. "ammo")
+     * @return The category's cache
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> CategoryCache<T> forCategory(String category) {
+        return (CategoryCache<T>) CACHES.computeIfAbsent(category, key ->
+                new CategoryCache<>(key, CacheConfig.getMaxItems(key), CacheConfig.getRefreshAfter(key)));
+    }
+
+    /**
+     * @return Every registered category cache, sorted by category
+     */
+    public static Map<String, CategoryCache<?>> all() {
+        return new TreeMap<>(CACHES);
+    }
+
+    public static void invalidateAll() {
+        CACHES.values().forEach(CategoryCache::invalidate);
+    }
+}
@@ -0,0 +1,269 @@
+package eldenring.poc.services;
+
+import eldenring.poc.tasks.TaskPriority;
+import eldenring.poc.tasks.TaskScheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Scrapes every catalog category in the background at startup so that opening a tab becomes a cache hit.
+ * Categories are loaded through the regular services, so they fill exactly the caches the screens read from.
+ * Snapshots written by previous runs are restored first, so every tab has data almost immediately;
+ * only categories whose snapshot is missing or older than the refresh interval are scraped afterwards.
+ * Work runs on the shared {@link TaskScheduler} at WARMUP priority, so page loads for the screens always
+ * go first. At most {@code concurrency} categories are scraped at once, and the category shown to the user
+ * is always picked next.
+ */
+public class CatalogWarmup {
+    private static final Logger LOGGER = Logger.getLogger(CatalogWarmup.class.getName());
+
+    /**
+     * Notified on a scheduler thread each time a category finishes warming up.
+     */
+    public interface Listener {
+        void onCategoryWarmed(String category, long durationMillis, int completed, int total);
+    }
+
+    private final int concurrency;
+    private final List<WarmupTask> pending = new ArrayList<>();
+    private final Map<String, Long> durationsMillis = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final CompletableFuture<Void> finished = new CompletableFuture<>();
+    private boolean started;
+    private int inFlight;
+    private String priorityCategory;
+    private int total;
+
+    public CatalogWarmup(int concurrency) {
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    /**
+     * Creates a warmup covering every category served by the services, keyed by tab name.
+     *
+     * @param concurrency Maximum number of categories scraped at the same time
+     * @return Warmup ready to be started
+     */
+    public static CatalogWarmup forAllCategories(int concurrency) {
+        CatalogWarmup warmup = new CatalogWarmup(concurrency);
+        warmup.register("Ammos", new AmmoService());
+        warmup.register("Armors", new ArmorService());
+        warmup.register("Ashes of War", new AshesOfWarService());
+        warmup.register("Classes", new ClassService());
+        warmup.register("Creatures", new CreatureService());
+        warmup.register("Incantations", new IncantationService());
+        warmup.register("Items", new ItemService());
+        warmup.register("Shields", new ShieldService());
+        warmup.register("Sorceries", new SorceryService());
+        warmup.register("Spirits", new SpiritService());
+        warmup.register("Talismans", new TalismanService());
+        warmup.register("Weapons", new WeaponCategoryService());
+        return warmup;
+    }
+
+    /**
+     * Registers a category. Must be called before {@link #start(String)}.
+     *
+     * @param category Category name (the tab name)
+     * @param service Service whose cache is filled
+     */
+    public synchronized void register(String category, BaseService<?> service) {
+        if (started) {
+            throw new IllegalStateException("Warmup already started");
+        }
+        pending.add(new WarmupTask(category, service));
+        total++;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Starts warming up all registered categories in the background.
+     *
+     * @param initialPriority Category to load first (usually the selected tab), may be null
+     */
+    public synchronized void start(String initialPriority) {
+        if (started) {
+            return;
+        }
+        started = true;
+        priorityCategory = initialPriority;
+        int workers = Math.min(concurrency, Math.max(1, pending.size()));
+
+        LOGGER.info("Starting catalog warmup of " + total + " categories with concurrency " + workers);
+        List<WarmupTask> tasks = new ArrayList<>(pending);
+        TaskScheduler.shared().submit(TaskPriority.WARMUP, this, () -> {
+            restoreSnapshots(tasks);
+            return null;
+        }).whenComplete((ignored, ex) -> {
+            for (int i = 0; i < workers; i++) {
+                scheduleNext();
+            }
+        });
+    }
+
+    /**
+     * Moves a category to the front of the queue if it has not started yet.
+     *
+     * @param category Category name (the tab name)
+     */
+    public synchronized void prioritize(String category) {
+        priorityCategory = category;
+    }
+
+    /**
+     * Stops scheduling further categories. Categories already being scraped run to completion.
+     */
+    public synchronized void shutdown() {
+        pending.clear();
+        TaskScheduler.shared().cancelAll(this);
+        if (!started || inFlight == 0) {
+            finished.complete(null);
+        }
+    }
+
+    /**
+     * Waits for the warmup to finish.
+     *
+     * @return true if every category finished before the timeout
+     */
+    public boolean awaitCompletion(long timeout, TimeUnit unit) throws InterruptedException {
+        try {
+            finished.get(timeout, unit);
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            return false;
+        }
+    }
+
+    public int getCompletedCount() {
+        return completed.get();
+    }
+
+    public synchronized int getTotalCount() {
+        return total;
+    }
+
+    public boolean isDone() {
+        return getCompletedCount() >= getTotalCount();
+    }
+
+    /**
+     * @return Warmup duration per finished category, in completion order
+     */
+    public Map<String, Long> getDurationsMillis() {
+        synchronized (durationsMillis) {
+            return new LinkedHashMap<>(durationsMillis);
+        }
+    }
+
+    private void restoreSnapshots(List<WarmupTask> tasks) {
+        long start = System.nanoTime();
+        int restored = 0;
+        for (WarmupTask task : tasks) {
+            try {
+                if (task.service.restoreSnapshot()) {
+                    restored++;
+                }
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Restoring snapshot of " + task.category + " failed", e);
+            }
+        }
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        LOGGER.info("Restored " + restored + "/" + tasks.size() + " category snapshots in " + durationMs + " ms");
+    }
+
+    /**
+     * Submits the next pending category, keeping at most {@code concurrency} in flight.
+     * Completes the warmup once nothing is pending or running.
+     */
+    private void scheduleNext() {
+        WarmupTask task;
+        synchronized (this) {
+            task = nextTask();
+            if (task == null) {
+                if (inFlight == 0) {
+                    finished.complete(null);
+                }
+                return;
+            }
+            inFlight++;
+        }
+
+        TaskScheduler.shared().submit(TaskPriority.WARMUP, this, () -> {
+            warm(task);
+            return null;
+        }).whenComplete((ignored, ex) -> {
+            synchronized (this) {
+                inFlight--;
+            }
+            scheduleNext();
+        });
+    }
+
+    private void warm(WarmupTask task) {
+        long start = System.nanoTime();
+        try {
+            task.service.warmUp();
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Warmup of " + task.category + " failed", e);
+        }
+
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        durationsMillis.put(task.category, durationMs);
+        int done = completed.incrementAndGet();
+        int all = getTotalCount();
+        LOGGER.info("Warmed up " + task.category + " in " + durationMs + " ms (" + done + "/" + all + ")");
+
+        for (Listener listener : listeners) {
+            try {
+                listener.onCategoryWarmed(task.category, durationMs, done, all);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Warmup listener failed", e);
+            }
+        }
+    }
+
+    private synchronized WarmupTask nextTask() {
+        if (pending.isEmpty()) {
+            return null;
+        }
+        if (priorityCategory != null) {
+            Iterator<WarmupTask> it = pending.iterator();
+            while (it.hasNext()) {
+                WarmupTask task = it.next();
+                if (task.category.equals(priorityCategory)) {
+                    it.remove();
+                    return task;
+                }
+            }
+        }
+        return pending.remove(0);
+    }
+
+    private static final class WarmupTask {
+        private final String category;
+        private final BaseService<?> service;
+
+        private WarmupTask(String category, BaseService<?> service) {
+            this.category = category;
+            this.service = service;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package eldenring.poc.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import eldenring.poc.config.CacheConfig;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Typed cache holding the scraped items of a single catalog category.
+ * Each category has its own Caffeine cache, bounded by item count, with its own statistics,
+ * so large categories cannot evict small ones and invalidation never crosses categories.
+ * A category larger than the bound would be evicted as soon as it is stored, and then re-scraped on every
+ * request, so it is truncated to the bound instead, with a warning.
+ * Entries never expire: once older than the refresh interval they are reported as due for a refresh,
+ * and keep being served until the refresh replaces them. Failed refreshes are retried with
+ * exponential backoff, so a wiki outage does not trigger a scrape on every request.
+ *
+ * @param <T> The model type of the category
+ */
+public class CategoryCache<T> {
+    private static final Logger LOGGER = Logger.getLogger(CategoryCache.class.getName());
+
+    private final String category;
+    private final long maxItems;
+    private final Cache<String, List<T>> cache;
+    private final Duration refreshAfter;
+    private volatile long loadedAtMillis;
+    private volatile long nextRefreshAtMillis;
+    private volatile int refreshFailures;
+
+    CategoryCache(String category, long maxItems, Duration refreshAfter) {
+        this.category = category;
+        this.maxItems = maxItems;
+        this.refreshAfter = refreshAfter;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxItems)
+                .weigher((String key, List<T> items) -> items.size())
+                .recordStats()
+                .build();
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    /**
+     * @return The cached items, or null if the category is not cached
+     */
+    public List<T> get() {
+        return cache.getIfPresent(category);
+    }
+
+    /**
+     * Stores the category, truncated to the configured maximum number of items.
+     *
+     * @param items Every item of the category
+     * @param loadedAtMillis When the items were scraped (epoch millis)
+     * @return The stored items: {@code items}, or its first items if it exceeds the maximum
+     */
+    public List<T> put(List<T> items, long loadedAtMillis) {
+        List<T> stored = items;
+        if (items.size() > maxItems) {
+            LOGGER.warning("Category " + category + " has " + items.size() + " items, more than its limit of " + maxItems
+                    + " - caching only the first " + maxItems + " (raise -Deldenring.cache." + category + ".maxItems)");
+            stored = items.subList(0, (int) maxItems);
+        }
+        this.loadedAtMillis = loadedAtMillis;
+        this.refreshFailures = 0;
+        this.nextRefreshAtMillis = loadedAtMillis + refreshAfter.toMillis();
+        cache.put(category, stored);
+        return stored;
+    }
+
+    /**
+     * @param nowMillis Current time (epoch millis)
+     * @return Whether the cached items are older than the refresh interval and no failed refresh is backing off
+     */
+    public boolean isRefreshDue(long nowMillis) {
+        return loadedAtMillis > 0 && nowMillis >= nextRefreshAtMillis;
+    }
+
+    /**
+     * Records a failed refresh. The cached items stay in place and the next refresh is delayed,
+     * doubling the delay after each consecutive failure up to the configured maximum.
+     *
+     * @param nowMillis Current time (epoch millis)
+     * @return Delay before the next refresh attempt (millis)
+     */
+    public synchronized long refreshFailed(long nowMillis) {
+        int failures = ++refreshFailures;
+        long base = CacheConfig.getRefreshBackoff().toMillis();
+        long max = CacheConfig.getRefreshBackoffMax().toMillis();
+        long delay = Math.min(max, base << Math.min(failures - 1, 20));
+        nextRefreshAtMillis = nowMillis + delay;
+        return delay;
+    }
+
+    /**
+     * @return Number of consecutive failed refreshes since the items were last stored
+     */
+    public int getRefreshFailures() {
+        return refreshFailures;
+    }
+
+    /**
+     * @return When the cached items were scraped (epoch millis), 0 if never loaded
+     */
+    public long getLoadedAtMillis() {
+        return loadedAtMillis;
+    }
+
+    public void invalidate() {
+        cache.invalidateAll();
+        loadedAtMillis = 0;
+        refreshFailures = 0;
+    }
+
+    /**
+     * Runs pending evictions now instead of on Caffeine's next maintenance cycle.
+     */
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,121 @@
+package eldenring.poc.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * A category load in progress, shared by every caller waiting for the same category.
+ * While the scrape runs, extracted items are published here in batches, so a caller that only needs
+ * the first pages can return as soon as those items exist instead of waiting for the whole category.
+ * Also records time-to-first-items and time-to-full-category for the load.
+ *
+ * @param <T> The model type of the category
+ */
+final class CategoryLoad<T> {
+    private final String category;
+    private final Logger logger;
+    private final CompletableFuture<List<T>> result = new CompletableFuture<>();
+    private final List<T> partial = new ArrayList<>();
+    private final long startNanos = System.nanoTime();
+    private long firstItemsMillis = -1;
+    private volatile CompletableFuture<?> task;
+
+    CategoryLoad(String category, Logger logger) {
+        this.category = category;
+        this.logger = logger;
+    }
+
+    /**
+     * @return The scheduler task running the load, or null if it runs on a caller's thread or is not queued yet
+     */
+    CompletableFuture<?> getTask() {
+        return task;
+    }
+
+    void setTask(CompletableFuture<?> task) {
+        this.task = task;
+    }
+
+    /**
+     * Adds items extracted so far. Called by the scraping thread, in category order.
+     */
+    synchronized void publish(List<T> batch) {
+        if (batch.isEmpty() || result.isDone()) {
+            return;
+        }
+        if (partial.isEmpty()) {
+            firstItemsMillis = elapsedMillis();
+            logger.info("First " + batch.size() + " " + category + " items available after " + firstItemsMillis + " ms");
+        }
+        partial.addAll(batch);
+        notifyAll();
+    }
+
+    /**
+     * Completes the load with the stored category.
+     */
+    void complete(List<T> items) {
+        synchronized (this) {
+            logger.info("Full " + category + " category (" + items.size() + " items) after " + elapsedMillis() + " ms"
+                    + (firstItemsMillis >= 0 ? " (first items after " + firstItemsMillis + " ms)" : ""));
+            result.complete(items);
+            partial.clear();
+            notifyAll();
+        }
+    }
+
+    void fail(Throwable failure) {
+        synchronized (this) {
+            result.completeExceptionally(failure);
+            partial.clear();
+            notifyAll();
+        }
+    }
+
+    /**
+     * @return The stored category, waiting for the load to finish
+     */
+    List<T> join() {
+        return result.join();
+    }
+
+    /**
+     * Waits until the items of the page have been extracted or the load has finished, whichever comes first.
+     *
+     * @param limit Number of items per page
+     * @param page Page number (0-based)
+     * @return The page from the items extracted so far, or null if the load finished first;
+     *         the caller then slices the stored category from {@link #join()}. Empty at once for a negative
+     *         page or a limit below 1, as {@link BaseService#slicePage} returns for cached data.
+     */
+    List<T> awaitPage(int limit, int page) {
+        if (limit <= 0 || page < 0) {
+            return List.of();
+        }
+        long needed = (long) (page + 1) * limit;
+        synchronized (this) {
+            try {
+                while (partial.size() < needed && !result.isDone()) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(new CancellationException("Interrupted waiting for " + category));
+            }
+            if (result.isDone()) {
+                return null;
+            }
+            int from = page * limit;
+            return List.copyOf(partial.subList(from, from + limit));
+        }
+    }
+
+    private long elapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
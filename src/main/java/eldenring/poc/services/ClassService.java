@@ -1,52 +1,32 @@
 package eldenring.poc.services;
 
 import eldenring.poc.models.ClassBase;
-import eldenring.poc.scrapers.ClassScraper;
+import eldenring.poc.scrapers.CatalogScraper;
+import eldenring.poc.scrapers.StaticClassScraper;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-public class ClassService extends BaseService {
+public class ClassService extends BaseService<ClassBase> {
     private static final Logger LOGGER = Logger.getLogger(ClassService.class.getName());
-    private static final String CACHE_KEY_PAGE_PREFIX = "class/page/";
+    private static final String CACHE_KEY = "class";
 
-    private final ClassScraper scraper = new ClassScraper();
+    private final CatalogScraper<ClassBase> scraper = new StaticClassScraper();
 
     public ClassService() {
-        super(LOGGER);
+        super(LOGGER, CACHE_KEY, ClassBase::new);
+    }
+
+    @Override
+    protected List<ClassBase> scrapeAll() {
+        return scraper.scrape();
     }
 
     public List<ClassBase> fetchClasses(int limit, int page) {
         try {
-            String pageKey = buildPageKey(CACHE_KEY_PAGE_PREFIX, page);
-            List<ClassBase> cachedPage = getCachedPage(pageKey);
-
-            if (cachedPage != null) {
-                LOGGER.info("Returning cached data for page " + page + " (size: " + limit + ")");
-                return cachedPage;
-            }
-
-            LOGGER.info("Cache miss for page " + page + " - scraping class data from wiki...");
-            List<ClassBase> allClasses = scraper.scrapeClasses();
-
-            if (allClasses == null || allClasses.isEmpty()) {
-                LOGGER.warning("No class data scraped");
-                return Collections.emptyList();
-            }
-
-            LOGGER.info("Scraped " + allClasses.size() + " class items");
-
-            cacheAllPagesInChunks(allClasses, limit, CACHE_KEY_PAGE_PREFIX);
-
-            List<ClassBase> result = getCachedPage(pageKey);
-            if (result == null) {
-                LOGGER.warning("Requested page still not found in cache after caching attempt: " + pageKey);
-                return Collections.emptyList();
-            }
-
-            return result;
+            return fetchPage(limit, page);
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Failed to fetch classes", e);
             return Collections.emptyList();
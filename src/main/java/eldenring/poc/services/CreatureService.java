@@ -11,12 +11,17 @@ import java.util.logging.Logger;
  * Minimal CreatureService until a dedicated scraper is implemented.
  * Returns empty lists and logs actions to avoid build-time scraper dependencies.
  */
-public class CreatureService extends BaseService {
+public class CreatureService extends BaseService<CreatureBase> {
     private static final Logger LOGGER = Logger.getLogger(CreatureService.class.getName());
-    private static final String CACHE_KEY_PAGE_PREFIX = "creature/page/";
+    private static final String CACHE_KEY = "creature";
 
     public CreatureService() {
-        super(LOGGER);
+        super(LOGGER, CACHE_KEY, CreatureBase::new);
+    }
+
+    @Override
+    protected List<CreatureBase> scrapeAll() {
+        return Collections.emptyList();
     }
 
     public List<CreatureBase> fetchCreatures(int limit, int page) {
@@ -8,45 +8,24 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-public class ItemService extends BaseService {
+public class ItemService extends BaseService<ItemBase> {
     private static final Logger LOGGER = Logger.getLogger(ItemService.class.getName());
-    private static final String CACHE_KEY_PAGE_PREFIX = "item/page/";
+    private static final String CACHE_KEY = "item";
 
     private final ItemScraper scraper = new ItemScraper();
 
     public ItemService() {
-        super(LOGGER);
+        super(LOGGER, CACHE_KEY, ItemBase::new);
+    }
+
+    @Override
+    protected List<ItemBase> scrapeAll() {
+        return scraper.scrapeItems();
     }
 
     public List<ItemBase> fetchItems(int limit, int page) {
         try {
-            String pageKey = buildPageKey(CACHE_KEY_PAGE_PREFIX, page);
-            List<ItemBase> cachedPage = getCachedPage(pageKey);
-
-            if (cachedPage != null) {
-                LOGGER.info("Returning cached data for page " + page + " (size: " + limit + ")");
-                return cachedPage;
-            }
-
-            LOGGER.info("Cache miss for page " + page + " - scraping item data from wiki...");
-            List<ItemBase> allItems = scraper.scrapeItems();
-
-            if (allItems == null || allItems.isEmpty()) {
-                LOGGER.warning("No item data scraped");
-                return Collections.emptyList();
-            }
-
-            LOGGER.info("Scraped " + allItems.size() + " item items");
-
-            cacheAllPagesInChunks(allItems, limit, CACHE_KEY_PAGE_PREFIX);
-
-            List<ItemBase> result = getCachedPage(pageKey);
-            if (result == null) {
-                LOGGER.warning("Requested page still not found in cache after caching attempt: " + pageKey);
-                return Collections.emptyList();
-            }
-
-            return result;
+            return fetchPage(limit, page);
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Failed to fetch items", e);
             return Collections.emptyList();
@@ -5,48 +5,33 @@ import eldenring.poc.scrapers.SpiritScraper;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-public class SpiritService extends BaseService {
+public class SpiritService extends BaseService<SpiritBase> {
     private static final Logger LOGGER = Logger.getLogger(SpiritService.class.getName());
-    private static final String CACHE_KEY_PAGE_PREFIX = "spirit/page/";
+    private static final String CACHE_KEY = "spirit";
 
     private final SpiritScraper scraper = new SpiritScraper();
 
     public SpiritService() {
-        super(LOGGER);
+        super(LOGGER, CACHE_KEY, SpiritBase::new);
     }
 
-    public List<SpiritBase> fetchSpirits(int limit, int page) {
-        try {
-            String pageKey = buildPageKey(CACHE_KEY_PAGE_PREFIX, page);
-            List<SpiritBase> cachedPage = getCachedPage(pageKey);
-
-            if (cachedPage != null) {
-                LOGGER.info("Returning cached data for page " + page + " (size: " + limit + ")");
-                return cachedPage;
-            }
-
-            LOGGER.info("Cache miss for page " + page + " - scraping spirit data from wiki...");
-            List<SpiritBase> allSpirits = scraper.scrapeSpirits();
-
-            if (allSpirits == null || allSpirits.isEmpty()) {
-                LOGGER.warning("No spirit data scraped");
-                return Collections.emptyList();
-            }
-
-            LOGGER.info("Scraped " + allSpirits.size() + " spirit items");
-
-            cacheAllPagesInChunks(allSpirits, limit, CACHE_KEY_PAGE_PREFIX);
+    @Override
+    protected List<SpiritBase> scrapeAll() {
+        return scraper.scrapeSpirits();
+    }
 
-            List<SpiritBase> result = getCachedPage(pageKey);
-            if (result == null) {
-                LOGGER.warning("Requested page still not found in cache after caching attempt: " + pageKey);
-                return Collections.emptyList();
-            }
+    @Override
+    protected List<SpiritBase> scrapeAll(Consumer<List<SpiritBase>> sink) {
+        return scraper.scrapeSpirits(sink);
+    }
 
-            return result;
+    public List<SpiritBase> fetchSpirits(int limit, int page) {
+        try {
+            return fetchPage(limit, page);
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Failed to fetch spirits", e);
             return Collections.emptyList();
@@ -0,0 +1,21 @@
+package eldenring.poc.tasks;
+
+/**
+ * Priority of a task run by the {@link TaskScheduler}, highest first.
+ */
+public enum TaskPriority {
+    /**
+     * Data for what the user is looking at right now.
+     */
+    VISIBLE,
+
+    /**
+     * Data the user is likely to look at next (e.g. the following pages).
+     */
+    PREFETCH,
+
+    /**
+     * Background loading of categories nobody has opened yet.
+     */
+    WARMUP
+}
@@ -0,0 +1,178 @@
+package eldenring.poc.tasks;
+
+import eldenring.poc.config.ScraperConfig;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Bounded, prioritized executor shared by the screens and the startup warmup.
+ * Queued tasks run in {@link TaskPriority} order, first come first served within a priority, so the page
+ * the user is looking at is fetched before prefetches, and prefetches before warmup scrapes.
+ * Tasks are grouped by owner (usually a screen) so everything an owner queued can be cancelled at once.
+ * Cancelling never interrupts a running task, because services share one scrape between callers;
+ * its result is simply discarded.
+ */
+public final class TaskScheduler {
+    private static final Logger LOGGER = Logger.getLogger(TaskScheduler.class.getName());
+
+    private static final TaskScheduler SHARED = new TaskScheduler(ScraperConfig.getTaskThreads());
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Object, Set<PrioritizedTask<?>>> tasksByOwner = new ConcurrentHashMap<>();
+    private final Map<CompletableFuture<?>, PrioritizedTask<?>> tasksByResult = new ConcurrentHashMap<>();
+
+    public TaskScheduler(int threads) {
+        this("task-scheduler", threads);
+    }
+
+    /**
+     * @param threadName Name prefix of the scheduler threads
+     * @param threads Number of tasks that run at the same time
+     */
+    public TaskScheduler(String threadName, int threads) {
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), r -> {
+                    Thread t = new Thread(r, threadName + "-" + threadCounter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    /**
+     * @return The scheduler used by every screen and the warmup
+     */
+    public static TaskScheduler shared() {
+        return SHARED;
+    }
+
+    /**
+     * Queues a task.
+     *
+     * @param priority Priority of the task
+     * @param owner Object the task belongs to, used by {@link #cancelAll(Object)}
+     * @param work Work to run on a scheduler thread
+     * @return Future completed with the result of the work, or cancelled if the task was cancelled
+     */
+    public <V> CompletableFuture<V> submit(TaskPriority priority, Object owner, Callable<V> work) {
+        PrioritizedTask<V> task = new PrioritizedTask<>(priority, sequence.getAndIncrement(), owner, work);
+        tasksByOwner.compute(owner, (k, tasks) -> {
+            Set<PrioritizedTask<?>> ownerTasks = tasks != null ? tasks : ConcurrentHashMap.newKeySet();
+            ownerTasks.add(task);
+            return ownerTasks;
+        });
+        tasksByResult.put(task.result, task);
+        executor.execute(task);
+        return task.result;
+    }
+
+    /**
+     * Raises the priority of a task that has not started yet. Does nothing if it already runs,
+     * finished, or has at least the requested priority.
+     *
+     * @param result Future returned by {@link #submit}
+     * @param priority New priority
+     */
+    public void promote(CompletableFuture<?> result, TaskPriority priority) {
+        PrioritizedTask<?> task = tasksByResult.get(result);
+        if (task == null || task.priority.compareTo(priority) <= 0) {
+            return;
+        }
+        if (executor.remove(task)) {
+            task.priority = priority;
+            executor.execute(task);
+        }
+    }
+
+    /**
+     * Cancels every task of an owner. Queued tasks are dropped; running tasks finish but their results are discarded.
+     *
+     * @param owner Owner passed to {@link #submit}
+     * @return Number of tasks cancelled
+     */
+    public int cancelAll(Object owner) {
+        Set<PrioritizedTask<?>> tasks = tasksByOwner.remove(owner);
+        if (tasks == null) {
+            return 0;
+        }
+        int cancelled = 0;
+        for (PrioritizedTask<?> task : tasks) {
+            executor.remove(task);
+            tasksByResult.remove(task.result);
+            if (task.result.cancel(false)) {
+                cancelled++;
+            }
+        }
+        if (cancelled > 0) {
+            LOGGER.fine("Cancelled " + cancelled + " tasks of " + owner);
+        }
+        return cancelled;
+    }
+
+    /**
+     * @return Number of tasks waiting for a thread
+     */
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * @return Number of tasks currently running
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    private void finished(PrioritizedTask<?> task) {
+        tasksByResult.remove(task.result);
+        tasksByOwner.computeIfPresent(task.owner, (k, tasks) -> {
+            tasks.remove(task);
+            return tasks.isEmpty() ? null : tasks;
+        });
+    }
+
+    private final class PrioritizedTask<V> implements Runnable, Comparable<PrioritizedTask<?>> {
+        private final long sequence;
+        private final Object owner;
+        private final Callable<V> work;
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private volatile TaskPriority priority;
+
+        private PrioritizedTask(TaskPriority priority, long sequence, Object owner, Callable<V> work) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.owner = owner;
+            this.work = work;
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (!result.isDone()) {
+                    result.complete(work.call());
+                }
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            } finally {
+                finished(this);
+            }
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask<?> other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package eldenring.poc.catalog;
+
+import eldenring.poc.models.AmmoBase;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Columns must give back every name and image URL, and retain less heap per item than the list of models
+ * they replace. Names and URLs are generated the way {@link CatalogFootprintReport} does.
+ */
+class ColumnarCatalogTest {
+    private static final int SIZE = 1_000;
+    private static final String IMAGE_PREFIX = "https://eldenring.wiki.fextralife.com/file/Elden-Ring/ammo/";
+    private static final String[] WORDS = {"Rotten", "Golden", "Bone", "Serpent", "Black-Key", "Lordsworn's"};
+    private static final String[] KINDS = {"Arrow", "Bolt", "Greatarrow", "Greatbolt", "Dart"};
+
+    @Test
+    void materializesEveryNameAndImageUrl() {
+        List<AmmoBase> models = new ArrayList<>(ammos(SIZE));
+        models.add(new AmmoBase("Arrow Without Image", null));
+        models.add(new AmmoBase("Ärrow Ünicode", IMAGE_PREFIX + "ärrow_ünicode.png"));
+
+        ColumnarCatalog<AmmoBase> columnar = ColumnarCatalog.of(models, AmmoBase::new);
+
+        assertEquals(models.size(), columnar.size());
+        for (int i = 0; i < models.size(); i++) {
+            assertEquals(models.get(i).getDisplayName(), columnar.getName(i));
+            assertEquals(models.get(i).getImageUrl(), columnar.getImageUrl(i));
+            assertEquals(models.get(i).getDisplayName(), columnar.get(i).getDisplayName());
+        }
+        assertNull(columnar.getImageUrl(SIZE));
+        // Models are built on access, not kept
+        assertNotSame(columnar.get(0), columnar.get(0));
+    }
+
+    @Test
+    void retainsLessHeapPerItemThanAListOfModels() {
+        List<AmmoBase> models = List.copyOf(ammos(SIZE));
+        ColumnarCatalog<AmmoBase> columnar = ColumnarCatalog.of(models, AmmoBase::new);
+
+        double modelBytesPerItem = (double) GraphLayout.parseInstance(models).totalSize() / SIZE;
+        // The shared prefix dictionary is paid once for the whole catalog, so it is included
+        double columnarBytesPerItem = (double) GraphLayout.parseInstance(columnar, UrlPrefixDictionary.shared())
+                .totalSize() / SIZE;
+
+        assertTrue(columnarBytesPerItem < modelBytesPerItem,
+                "Columnar catalog retains " + columnarBytesPerItem + " B/item, models " + modelBytesPerItem + " B/item");
+    }
+
+    private static List<AmmoBase> ammos(int count) {
+        List<AmmoBase> models = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = WORDS[i % WORDS.length] + " " + KINDS[i % KINDS.length] + (i < 30 ? "" : " " + i);
+            String image = IMAGE_PREFIX + name.toLowerCase().replace(' ', '_') + "_elden_ring_wiki_guide_200px.png";
+            models.add(new AmmoBase(name, image));
+        }
+        return models;
+    }
+}
@@ -0,0 +1,100 @@
+package eldenring.poc.images;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Downloads and hits must not write to disk one image at a time: the index and the blobs' use times are
+ * written by a flush, and a new store reads both back.
+ */
+class ImageStoreTest {
+    private static final long MAX_BYTES = 1024 * 1024;
+
+    @TempDir
+    Path directory;
+
+    private HttpServer server;
+
+    @BeforeEach
+    void serveImages() throws Exception {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = ("image " + exchange.getRequestURI().getPath()).getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void downloadsAreIndexedByAFlushAndSurviveARestart() throws Exception {
+        ImageStore store = new ImageStore(directory, MAX_BYTES);
+        for (int i = 0; i < 5; i++) {
+            store.fetch(url(i)).get(10, TimeUnit.SECONDS);
+        }
+        assertEquals(5, store.getIndexedUrlCount());
+        assertTrue(store.contains(url(0)));
+
+        store.flush();
+        ImageStore restarted = new ImageStore(directory, MAX_BYTES);
+        assertEquals(5, restarted.getIndexedUrlCount());
+        assertTrue(restarted.lookup(url(3)).isPresent());
+        assertFalse(restarted.contains("http://127.0.0.1:1/never-downloaded.png"));
+    }
+
+    @Test
+    void hitsAreRecordedInMemoryAndStampedOnFlush() throws Exception {
+        ImageStore store = new ImageStore(directory, MAX_BYTES);
+        Path blob = store.fetch(url(0)).get(10, TimeUnit.SECONDS);
+        store.flush();
+        FileTime old = FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(1));
+        Files.setLastModifiedTime(blob, old);
+
+        assertEquals(blob, store.lookup(url(0)).orElseThrow());
+        assertEquals(old, Files.getLastModifiedTime(blob), "A hit touched the file system");
+
+        store.flush();
+        assertTrue(Files.getLastModifiedTime(blob).compareTo(old) > 0);
+    }
+
+    @Test
+    void flushForgetsBlobsDeletedBehindItsBack() throws Exception {
+        ImageStore store = new ImageStore(directory, MAX_BYTES);
+        Path blob = store.fetch(url(0)).get(10, TimeUnit.SECONDS);
+        store.flush();
+
+        Files.delete(blob);
+        store.lookup(url(0));
+        store.flush();
+
+        assertFalse(store.contains(url(0)));
+    }
+
+    private String url(int image) {
+        return "http://" + server.getAddress().getAddress().getHostAddress() + ":" + server.getAddress().getPort()
+                + "/file/image_" + image + ".png";
+    }
+}
@@ -0,0 +1,55 @@
+package eldenring.poc.persistence;
+
+import eldenring.poc.models.AmmoBase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Snapshots must detect corrupt records, and a new save must never replace a file that is still mapped.
+ */
+class CatalogSnapshotStoreTest {
+    private static final List<AmmoBase> ITEMS = List.of(
+            new AmmoBase("Arrow", "https://eldenring.wiki.fextralife.com/file/Elden-Ring/ammo/arrow.png"),
+            new AmmoBase("Bolt", "https://eldenring.wiki.fextralife.com/file/Elden-Ring/ammo/bolt.png"),
+            new AmmoBase("Dart", null));
+
+    @Test
+    void corruptRecordFailsItsChecksumWhenDecoded(@TempDir Path directory) throws Exception {
+        CatalogSnapshotStore store = new CatalogSnapshotStore(directory);
+        store.save("ammo", 1_000, ITEMS);
+
+        Path file = store.filesOf("ammo").get(0);
+        byte[] bytes = Files.readAllBytes(file);
+        // The last byte belongs to the record of the last item
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(file, bytes);
+
+        List<AmmoBase> items = store.load("ammo", AmmoBase::new).orElseThrow().getItems();
+        assertEquals("Arrow", items.get(0).getDisplayName());
+        assertEquals("Bolt", items.get(1).getDisplayName());
+        assertThrows(IllegalStateException.class, () -> items.get(2));
+    }
+
+    @Test
+    void saveWritesANewFileInsteadOfReplacingTheMappedOne(@TempDir Path directory) throws Exception {
+        CatalogSnapshotStore store = new CatalogSnapshotStore(directory);
+        store.save("ammo", 1_000, ITEMS);
+        CatalogSnapshot<AmmoBase> mapped = store.load("ammo", AmmoBase::new).orElseThrow();
+
+        store.save("ammo", 2_000, ITEMS.subList(0, 1));
+
+        // The older file may only be deleted once unmapped on Windows; on other systems it is deleted right away
+        assertEquals("ammo-2000.snap", store.filesOf("ammo").get(0).getFileName().toString());
+        assertEquals("Dart", mapped.getItems().get(2).getDisplayName());
+        CatalogSnapshot<AmmoBase> loaded = store.load("ammo", AmmoBase::new).orElseThrow();
+        assertEquals(2_000, loaded.getWrittenAtMillis());
+        assertEquals(1, loaded.getItems().size());
+    }
+}
@@ -0,0 +1,92 @@
+package eldenring.poc.replay;
+
+import eldenring.poc.config.ApiConfig;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Replayed pages must not make the browser fetch anything from the network, while scrapers still read the
+ * image URLs of the live wiki.
+ */
+class ReplayServerTest {
+    private static final String RECORDED_PAGE = "<html><head>"
+            + "<base href='https://eldenring.wiki.fextralife.com/'>"
+            + "<link rel='stylesheet' href='/css/wiki.css'><link rel='preconnect' href='https://cdn.example.com'>"
+            + "<script src='https://cdn.example.com/app.js'></script>"
+            + "<style>@import url('/css/theme.css'); .hero { background: url(/file/hero.png); }</style>"
+            + "</head><body>"
+            + "<div class='row' style='background-image: url(\"/file/row.png\")'>"
+            + "<div class='col'><img src='/file/Elden-Ring/ammo/arrow.png'><h4>Arrow</h4></div>"
+            + "<div class='col'><img src='placeholder.gif' data-src='/file/Elden-Ring/ammo/bolt.png'><h4>Bolt</h4></div>"
+            + "<div class='col'><img src='../file/Elden-Ring/ammo/dart.png' srcset='dart-2x.png 2x'><h4>Dart</h4></div>"
+            + "</div><iframe src='https://ads.example.com'></iframe>"
+            + "</body></html>";
+
+    @Test
+    void servedPagesReferenceNothingButThemselves() {
+        Document served = Jsoup.parse(ReplayServer.prepare(RECORDED_PAGE, "/Arrows+and+Bolts"));
+
+        assertTrue(served.select("script, base, link, iframe").isEmpty());
+        for (Element element : served.select("[src]")) {
+            assertEquals(ReplayServer.PLACEHOLDER_IMAGE, element.attr("src"));
+        }
+        assertTrue(served.select("[srcset]").isEmpty());
+        assertFalse(served.outerHtml().contains("url("), "CSS still references a resource");
+        assertFalse(served.outerHtml().contains("@import"), "CSS still imports a stylesheet");
+    }
+
+    @Test
+    void imageUrlsMatchTheLiveWiki() {
+        Document served = Jsoup.parse(ReplayServer.prepare(RECORDED_PAGE, "/Arrows+and+Bolts"));
+
+        String site = ApiConfig.getSiteUrl();
+        assertEquals(site + "/file/Elden-Ring/ammo/arrow.png", served.select("img").get(0).attr("data-src"));
+        // Lazy-load URLs too, or static scrapers would resolve them against the loopback server
+        assertEquals(site + "/file/Elden-Ring/ammo/bolt.png", served.select("img").get(1).attr("data-src"));
+        assertEquals(site + "/file/Elden-Ring/ammo/dart.png", served.select("img").get(2).attr("data-src"));
+    }
+
+    @Test
+    void staticScrapersReadLiveImageUrlsFromReplayedPages() {
+        String loopbackUrl = "http://127.0.0.1:8123/Arrows+and+Bolts";
+        Document replayed = Jsoup.parse(ReplayServer.prepare(RECORDED_PAGE, "/Arrows+and+Bolts"), loopbackUrl);
+
+        for (Element img : replayed.select("img")) {
+            assertTrue(img.absUrl("data-src").startsWith(ApiConfig.getSiteUrl() + "/file/"), img.absUrl("data-src"));
+        }
+    }
+
+    @Test
+    void servesRecordedPagesAndRejectsOthers(@TempDir Path directory) throws Exception {
+        PageArchive archive = new PageArchive(directory);
+        archive.save("/Arrows+and+Bolts", RECORDED_PAGE);
+
+        try (ReplayServer server = ReplayServer.start(archive, 0)) {
+            HttpClient client = HttpClient.newHttpClient();
+
+            HttpResponse<String> page = client.send(HttpRequest.newBuilder(
+                    URI.create(server.getBaseUrl() + "/Arrows+and+Bolts")).build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, page.statusCode());
+            assertEquals(3, Jsoup.parse(page.body()).select("img[data-src]").size());
+
+            HttpResponse<String> missing = client.send(HttpRequest.newBuilder(
+                    URI.create(server.getBaseUrl() + "/Talismans")).build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(404, missing.statusCode());
+            assertEquals(1, server.getServedCount());
+            assertEquals(1, server.getMissingCount());
+        }
+    }
+}
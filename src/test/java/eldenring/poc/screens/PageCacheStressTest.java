@@ -0,0 +1,205 @@
+package eldenring.poc.screens;
+
+import eldenring.poc.tasks.TaskPriority;
+import eldenring.poc.tasks.TaskScheduler;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Hammers tab switches and pagination the way list screens drive them: every screen requests pages on a shared
+ * {@link TaskScheduler} and stores them in its {@link PageCache}; a tab switch cancels the hidden screen's loads,
+ * and an eviction also disposes it. Loads that were already running when their screen was disposed must not
+ * write into its cache, and concurrent readers must only ever see complete pages.
+ */
+class PageCacheStressTest {
+    private static final int SCREENS = 4;
+    private static final int THREADS = 4;
+    private static final int PAGE_SIZE = 20;
+    private static final int PAGES = 10;
+    private static final int ROUNDS = 3_000;
+
+    private final TaskScheduler scheduler = new TaskScheduler(THREADS);
+    private final AtomicInteger fetching = new AtomicInteger();
+    private final AtomicInteger corruptPages = new AtomicInteger();
+    private final List<CompletableFuture<List<Integer>>> loads = new ArrayList<>();
+
+    @Test
+    void tabSwitchesAndPaginationNeverLeakPagesIntoDisposedScreens() throws Exception {
+        List<Screen> screens = new ArrayList<>();
+        for (int i = 0; i < SCREENS; i++) {
+            screens.add(new Screen());
+        }
+        Thread reader = startReader(screens);
+
+        Random random = new Random(7);
+        Screen shown = screens.get(0);
+        for (int round = 0; round < ROUNDS; round++) {
+            Screen next = screens.get(random.nextInt(SCREENS));
+            if (next != shown) {
+                if (random.nextInt(4) == 0) {
+                    shown.dispose();
+                } else {
+                    shown.hide();
+                }
+                shown = next;
+            }
+
+            int page = random.nextInt(PAGES);
+            shown.request(page, TaskPriority.VISIBLE);
+            for (int ahead = 1; ahead <= 2; ahead++) {
+                CompletableFuture<List<Integer>> prefetch = shown.request(page + ahead, TaskPriority.PREFETCH);
+                if (random.nextBoolean()) {
+                    scheduler.promote(prefetch, TaskPriority.VISIBLE);
+                }
+            }
+        }
+        awaitQuiescent();
+
+        for (Screen screen : screens) {
+            if (screen.disposedSinceLastRequest) {
+                assertEquals(0, screen.cache.size(), "Pages were stored into a disposed screen");
+            }
+        }
+
+        // Dispose every screen while each has a load in progress
+        CountDownLatch started = new CountDownLatch(SCREENS);
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<List<Integer>>> running = new ArrayList<>();
+        for (Screen screen : screens) {
+            running.add(screen.requestBlocking(PAGES, started, release));
+        }
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        screens.forEach(Screen::dispose);
+        release.countDown();
+        awaitQuiescent();
+
+        reader.interrupt();
+        reader.join(10_000);
+        for (int i = 0; i < SCREENS; i++) {
+            assertTrue(running.get(i).isCancelled());
+            assertEquals(0, screens.get(i).cache.size(), "A load running during dispose repopulated the cache");
+            assertTrue(screens.get(i).discarded.get() > 0);
+        }
+        for (CompletableFuture<List<Integer>> load : loads) {
+            assertTrue(load.isDone());
+            assertTrue(load.isCancelled() || !load.isCompletedExceptionally(), "A page load failed");
+        }
+        assertEquals(0, corruptPages.get());
+    }
+
+    private Thread startReader(List<Screen> screens) {
+        Thread reader = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                for (Screen screen : screens) {
+                    for (int page = 0; page < PAGES + 2; page++) {
+                        List<Integer> items = screen.cache.get(page);
+                        if (items != null && !items.equals(itemsOf(page))) {
+                            corruptPages.incrementAndGet();
+                        }
+                    }
+                }
+            }
+        }, "page-reader");
+        reader.setDaemon(true);
+        reader.start();
+        return reader;
+    }
+
+    /**
+     * Waits until nothing is queued or running on the scheduler, including cancelled tasks that still run.
+     */
+    private void awaitQuiescent() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        int quietChecks = 0;
+        while (quietChecks < 3) {
+            boolean quiet = scheduler.getQueuedCount() == 0 && scheduler.getActiveCount() == 0 && fetching.get() == 0;
+            quietChecks = quiet ? quietChecks + 1 : 0;
+            assertTrue(System.nanoTime() < deadline, "Scheduler did not drain");
+            Thread.sleep(2);
+        }
+    }
+
+    private List<Integer> fetch(int page) {
+        fetching.incrementAndGet();
+        try {
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(200_000));
+            return itemsOf(page);
+        } finally {
+            fetching.decrementAndGet();
+        }
+    }
+
+    private static List<Integer> itemsOf(int page) {
+        List<Integer> items = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            items.add(page * PAGE_SIZE + i);
+        }
+        return List.copyOf(items);
+    }
+
+    /**
+     * The page handling of a list screen, without its nodes.
+     */
+    private final class Screen {
+        private final PageCache<Integer> cache = new PageCache<>();
+        private final AtomicInteger discarded = new AtomicInteger();
+        private boolean disposedSinceLastRequest;
+
+        CompletableFuture<List<Integer>> request(int page, TaskPriority priority) {
+            disposedSinceLastRequest = false;
+            List<Integer> cached = cache.get(page);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+            int generation = cache.generation();
+            CompletableFuture<List<Integer>> load = scheduler.submit(priority, this, () -> {
+                List<Integer> items = fetch(page);
+                if (!cache.put(generation, page, items)) {
+                    discarded.incrementAndGet();
+                }
+                return items;
+            });
+            loads.add(load);
+            return load;
+        }
+
+        CompletableFuture<List<Integer>> requestBlocking(int page, CountDownLatch started, CountDownLatch release) {
+            int generation = cache.generation();
+            return scheduler.submit(TaskPriority.VISIBLE, this, () -> {
+                fetching.incrementAndGet();
+                try {
+                    started.countDown();
+                    release.await(10, TimeUnit.SECONDS);
+                } finally {
+                    fetching.decrementAndGet();
+                }
+                if (!cache.put(generation, page, itemsOf(page))) {
+                    discarded.incrementAndGet();
+                }
+                return itemsOf(page);
+            });
+        }
+
+        void hide() {
+            scheduler.cancelAll(this);
+        }
+
+        void dispose() {
+            scheduler.cancelAll(this);
+            cache.clear();
+            disposedSinceLastRequest = true;
+        }
+    }
+}
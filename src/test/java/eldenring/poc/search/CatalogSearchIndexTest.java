@@ -0,0 +1,82 @@
+package eldenring.poc.search;
+
+import eldenring.poc.models.AmmoBase;
+import eldenring.poc.models.BaseModel;
+import eldenring.poc.models.TalismanBase;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Queries must match names by token prefixes across categories, rank exact matches ahead of misspelled ones,
+ * and a re-cached category must replace only its own entries.
+ */
+class CatalogSearchIndexTest {
+    private final CatalogSearchIndex index = new CatalogSearchIndex();
+
+    @Test
+    void everyQueryTokenMatchesThePrefixOfANameToken() {
+        index.index("talisman", List.of(
+                talisman("Rotten Winged Sword Insignia"),
+                talisman("Winged Sword Insignia"),
+                talisman("Marika's Soreseal")));
+
+        assertEquals(List.of("Rotten Winged Sword Insignia"), names(index.search("rott wing", 10)));
+        // Token order does not matter
+        assertEquals(List.of("Rotten Winged Sword Insignia"), names(index.search("wing rott", 10)));
+        assertEquals(List.of("Winged Sword Insignia", "Rotten Winged Sword Insignia"),
+                names(index.search("insig", 10)));
+        // Punctuation separates tokens, in names and queries alike
+        assertEquals(List.of("Marika's Soreseal"), names(index.search("marika s", 10)));
+        assertTrue(index.search("  ", 10).isEmpty());
+    }
+
+    @Test
+    void ranksExactThenPrefixThenOtherThenFuzzyMatches() {
+        index.index("ammo", List.of(
+                ammo("Arrow Bundle"),
+                ammo("Narrow Pass"),
+                ammo("Arrow"),
+                ammo("Arrow Set")));
+        index.index("talisman", List.of(talisman("Golden Arrow")));
+
+        List<SearchResult> results = index.search("arrow", 10);
+
+        // Shorter names first within a rank; the misspelled match comes last
+        assertEquals(List.of("Arrow", "Arrow Set", "Arrow Bundle", "Golden Arrow", "Narrow Pass"), names(results));
+        assertEquals("talisman", results.get(3).getCategory());
+        assertEquals(List.of("Arrow", "Arrow Set"), names(index.search("arrow", 2)));
+    }
+
+    @Test
+    void reindexingACategoryReplacesOnlyItsOwnEntries() {
+        index.index("ammo", List.of(ammo("Bone Arrow"), ammo("Bone Bolt")));
+        index.index("talisman", List.of(talisman("Bone Talisman")));
+        assertEquals(3, index.search("bone", 10).size());
+
+        // A re-scrape registers the category again
+        index.index("ammo", List.of(ammo("Bone Dart")));
+
+        assertEquals(List.of("Bone Dart", "Bone Talisman"), names(index.search("bone", 10)));
+        assertEquals(2, index.size());
+
+        index.remove("ammo");
+        assertEquals(List.of("Bone Talisman"), names(index.search("bone", 10)));
+    }
+
+    private static AmmoBase ammo(String name) {
+        return new AmmoBase(name, "https://example.com/file/ammo.png");
+    }
+
+    private static TalismanBase talisman(String name) {
+        return new TalismanBase(name, "https://example.com/file/talisman.png");
+    }
+
+    private static List<String> names(List<SearchResult> results) {
+        return results.stream().map(SearchResult::getItem).map(BaseModel::getDisplayName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,73 @@
+package eldenring.poc.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The edit limits, the trigram filter and the early exit of the distance computation must not drop the matches
+ * the class documents, and candidates must come back closest first, then shortest.
+ */
+class FuzzyNameMatcherTest {
+    private static final List<String> NAMES = List.of(
+            "Marika's Soreseal",
+            "Radagon's Soreseal",
+            "Ash of War: Lion's Claw",
+            "Lion Greatbow",
+            "Greatsword",
+            "Claymore",
+            "Claymore Sword",
+            "Glaymor");
+
+    private final FuzzyNameMatcher matcher = FuzzyNameMatcher.build(NAMES);
+
+    @Test
+    void findsTheDocumentedExamples() {
+        assertEquals(List.of("Marika's Soreseal", "Radagon's Soreseal"), names(matcher.match("soresel", 10)));
+        assertEquals(List.of("Marika's Soreseal"), names(matcher.match("marikas sore", 10)));
+        assertEquals(List.of("Ash of War: Lion's Claw"), names(matcher.match("lions cla", 10)));
+    }
+
+    @Test
+    void toleratesNoEditUpTo3LettersOneUpTo6AndTwoBeyond() {
+        assertEquals(0, FuzzyNameMatcher.allowedEdits(3));
+        assertEquals(1, FuzzyNameMatcher.allowedEdits(6));
+        assertEquals(2, FuzzyNameMatcher.allowedEdits(7));
+
+        assertEquals(List.of("Greatsword", "Lion Greatbow"), names(matcher.match("gre", 10)));
+        assertTrue(matcher.match("grq", 10).isEmpty());
+
+        assertEquals(List.of("Greatsword"), names(matcher.match("greqts", 10)));
+        assertTrue(matcher.match("grqqts", 10).isEmpty());
+
+        assertEquals(List.of("Greatsword"), names(matcher.match("grqqtsw", 10)));
+        assertTrue(matcher.match("qrqqtsw", 10).isEmpty());
+    }
+
+    @Test
+    void prefixDistanceStopsAtTheLimitWithoutMissingLongerPrefixes() {
+        assertEquals(0, FuzzyNameMatcher.prefixDistance("great", "greatsword", 2));
+        // Closest beginning is "soreseal" itself, one insertion away
+        assertEquals(1, FuzzyNameMatcher.prefixDistance("soresel", "soreseal", 2));
+        assertEquals(2, FuzzyNameMatcher.prefixDistance("grqqtsw", "greatsword", 2));
+        assertEquals(3, FuzzyNameMatcher.prefixDistance("qrqqtsw", "greatsword", 2));
+    }
+
+    @Test
+    void ranksByDistanceThenByNameLength() {
+        List<FuzzyNameMatcher.Candidate> candidates = matcher.match("claymore", 10);
+
+        assertEquals(List.of("Claymore", "Claymore Sword", "Glaymor"), names(candidates));
+        assertEquals(List.of(0, 0, 2), candidates.stream().map(FuzzyNameMatcher.Candidate::getDistance)
+                .collect(Collectors.toList()));
+        assertEquals(List.of("Claymore"), names(matcher.match("claymore", 1)));
+    }
+
+    private static List<String> names(List<FuzzyNameMatcher.Candidate> candidates) {
+        return candidates.stream().map(candidate -> NAMES.get(candidate.getIndex())).collect(Collectors.toList());
+    }
+}
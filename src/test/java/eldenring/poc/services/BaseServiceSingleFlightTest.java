@@ -0,0 +1,252 @@
+package eldenring.poc.services;
+
+import eldenring.poc.config.CacheConfig;
+import eldenring.poc.models.AmmoBase;
+import eldenring.poc.models.BaseModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Concurrent loads of one category must share a single scrape, and its result or failure must reach every caller.
+ * A caller that only needs the first page must get it while the scrape is still running, and warm-up must
+ * consider cached data stale exactly when page requests do.
+ */
+class BaseServiceSingleFlightTest {
+    private static final int CALLERS = 8;
+    private static final int PAGE_SIZE = 20;
+    private static final AtomicInteger CATEGORIES = new AtomicInteger();
+
+    private final List<Thread> callers = new ArrayList<>();
+
+    @AfterEach
+    void stopCallers() {
+        callers.forEach(Thread::interrupt);
+    }
+
+    @Test
+    void concurrentPageMissesShareOneScrape() throws Exception {
+        BlockingService service = new BlockingService(items(50), null, 0);
+
+        List<FutureTask<List<AmmoBase>>> pages = startCallers(() -> service.fetchPage(PAGE_SIZE, 0));
+        service.awaitScrapeStarted();
+        awaitCallersBlocked();
+        service.release();
+
+        for (FutureTask<List<AmmoBase>> page : pages) {
+            assertEquals(names(items(PAGE_SIZE)), names(page.get(10, TimeUnit.SECONDS)));
+        }
+        assertEquals(1, service.getScrapeCount());
+        assertEquals(50, service.getCachedCategory().size());
+    }
+
+    @Test
+    void concurrentRefreshesShareOneScrape() throws Exception {
+        BlockingService service = new BlockingService(items(50), null, 0);
+
+        List<FutureTask<List<AmmoBase>>> categories = startCallers(service::refresh);
+        service.awaitScrapeStarted();
+        awaitCallersBlocked();
+        service.release();
+
+        List<AmmoBase> first = categories.get(0).get(10, TimeUnit.SECONDS);
+        for (FutureTask<List<AmmoBase>> category : categories) {
+            assertSame(first, category.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, service.getScrapeCount());
+    }
+
+    @Test
+    void failedScrapeReachesEveryWaiter() throws Exception {
+        IllegalStateException failure = new IllegalStateException("wiki unavailable");
+        BlockingService service = new BlockingService(items(50), failure, 0);
+
+        List<FutureTask<List<AmmoBase>>> pages = startCallers(() -> service.fetchPage(PAGE_SIZE, 0));
+        service.awaitScrapeStarted();
+        awaitCallersBlocked();
+        service.release();
+
+        for (FutureTask<List<AmmoBase>> page : pages) {
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> page.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(CompletionException.class, thrown.getCause());
+            assertSame(failure, thrown.getCause().getCause());
+        }
+        assertEquals(1, service.getScrapeCount());
+        assertNull(service.getCachedCategory());
+        assertFalse(service.isLoading());
+    }
+
+    @Test
+    void pageMissReturnsAsSoonAsItsItemsAreStreamed() throws Exception {
+        BlockingService service = new BlockingService(items(50), null, PAGE_SIZE);
+
+        // The scrape runs on a scrape thread and stays blocked after streaming the first page
+        assertEquals(names(items(PAGE_SIZE)), names(service.fetchPage(PAGE_SIZE, 0)));
+        assertTrue(service.isLoading());
+        assertNull(service.getCachedCategory());
+
+        service.release();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (service.isLoading()) {
+            assertTrue(System.nanoTime() < deadline, "Scrape did not finish");
+            Thread.sleep(5);
+        }
+        assertEquals(50, service.getCachedCategory().size());
+        assertEquals(1, service.getScrapeCount());
+    }
+
+    @Test
+    void invalidPageOnAMissIsEmptyAsOnAHit() {
+        BlockingService service = new BlockingService(items(50), null, PAGE_SIZE);
+
+        assertTrue(service.fetchPage(PAGE_SIZE, -1).isEmpty());
+        assertTrue(service.fetchPage(-1, 0).isEmpty());
+        service.release();
+        assertTrue(service.fetchPage(0, 0).isEmpty());
+    }
+
+    @Test
+    void warmUpAndPageRequestsShareOneStalenessPolicy() {
+        BlockingService service = new BlockingService(items(50), null, 0);
+        service.release();
+        CategoryCache<AmmoBase> cache = CacheRegistry.forCategory(service.categoryKey);
+        long refreshAfterMillis = CacheConfig.getRefreshAfter(service.categoryKey).toMillis();
+
+        // Younger than the refresh interval: neither path scrapes
+        cache.put(items(50), System.currentTimeMillis() - refreshAfterMillis / 2);
+        service.fetchPage(PAGE_SIZE, 0);
+        assertFalse(service.isLoading());
+        service.warmUp();
+        assertEquals(0, service.getScrapeCount());
+
+        // Older than the refresh interval: warm-up re-scrapes, just as a page request would
+        cache.put(items(50), System.currentTimeMillis() - refreshAfterMillis - 1);
+        service.warmUp();
+        assertEquals(1, service.getScrapeCount());
+        assertFalse(cache.isRefreshDue(System.currentTimeMillis()));
+    }
+
+    private List<FutureTask<List<AmmoBase>>> startCallers(Callable<List<AmmoBase>> call) {
+        List<FutureTask<List<AmmoBase>>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            FutureTask<List<AmmoBase>> result = new FutureTask<>(call);
+            Thread caller = new Thread(result, "caller-" + i);
+            caller.setDaemon(true);
+            callers.add(caller);
+            results.add(result);
+            caller.start();
+        }
+        return results;
+    }
+
+    /**
+     * Waits until every caller is parked on the load, so none of them can start a scrape of its own afterwards.
+     */
+    private void awaitCallersBlocked() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!callers.stream().allMatch(BaseServiceSingleFlightTest::isWaiting)) {
+            assertTrue(System.nanoTime() < deadline, "Callers did not all wait for the load");
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * The caller that runs a refresh waits inside the scrape itself, with a timeout.
+     */
+    private static boolean isWaiting(Thread thread) {
+        Thread.State state = thread.getState();
+        return state == Thread.State.WAITING || state == Thread.State.TIMED_WAITING;
+    }
+
+    private static List<AmmoBase> items(int count) {
+        List<AmmoBase> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new AmmoBase("Arrow " + i, "https://example.com/file/arrow_" + i + ".png"));
+        }
+        return items;
+    }
+
+    private static List<String> names(List<? extends BaseModel> items) {
+        return items.stream().map(BaseModel::getDisplayName).collect(Collectors.toList());
+    }
+
+    /**
+     * Service whose scrape counts its calls and blocks until released, optionally streaming its first items before.
+     */
+    private static final class BlockingService extends BaseService<AmmoBase> {
+        private final List<AmmoBase> items;
+        private final RuntimeException failure;
+        private final int streamedBeforeRelease;
+        private final AtomicInteger scrapes = new AtomicInteger();
+        private final CountDownLatch scrapeStarted = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        BlockingService(List<AmmoBase> items, RuntimeException failure, int streamedBeforeRelease) {
+            super(Logger.getLogger(BaseServiceSingleFlightTest.class.getName()),
+                    "single-flight-test-" + CATEGORIES.incrementAndGet(), AmmoBase::new);
+            this.items = items;
+            this.failure = failure;
+            this.streamedBeforeRelease = streamedBeforeRelease;
+        }
+
+        @Override
+        protected List<AmmoBase> scrapeAll(Consumer<List<AmmoBase>> sink) {
+            if (streamedBeforeRelease > 0) {
+                sink.accept(items.subList(0, streamedBeforeRelease));
+            }
+            List<AmmoBase> all = scrapeAll();
+            sink.accept(all.subList(streamedBeforeRelease, all.size()));
+            return all;
+        }
+
+        @Override
+        protected List<AmmoBase> scrapeAll() {
+            scrapes.incrementAndGet();
+            scrapeStarted.countDown();
+            try {
+                if (!released.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Scrape was never released");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return items;
+        }
+
+        void awaitScrapeStarted() throws InterruptedException {
+            assertTrue(scrapeStarted.await(10, TimeUnit.SECONDS), "Scrape did not start");
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        int getScrapeCount() {
+            return scrapes.get();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package eldenring.poc.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * A category must stay cached whatever its size, so a large one is not evicted on store and re-scraped on every request.
+ */
+class CategoryCacheTest {
+
+    @Test
+    void oversizedCategoryIsTruncatedInsteadOfEvicted() {
+        CategoryCache<Integer> cache = new CategoryCache<>("oversized", 4, Duration.ofMinutes(30));
+
+        List<Integer> stored = cache.put(items(10), System.currentTimeMillis());
+        cache.cleanUp();
+
+        assertEquals(List.of(0, 1, 2, 3), stored);
+        assertEquals(stored, cache.get());
+        assertEquals(0, cache.stats().evictionCount());
+    }
+
+    @Test
+    void categoryWithinTheBoundIsStoredAsIs() {
+        CategoryCache<Integer> cache = new CategoryCache<>("bounded", 4, Duration.ofMinutes(30));
+        List<Integer> items = items(4);
+
+        assertSame(items, cache.put(items, System.currentTimeMillis()));
+        assertSame(items, cache.get());
+    }
+
+    private static List<Integer> items(int count) {
+        List<Integer> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(i);
+        }
+        return items;
+    }
+}
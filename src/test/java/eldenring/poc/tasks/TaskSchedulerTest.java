@@ -0,0 +1,133 @@
+package eldenring.poc.tasks;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ordering and cancellation of the {@link TaskScheduler}. A single-thread scheduler is held busy by a blocker task
+ * so the queued tasks can be arranged before any of them runs.
+ */
+class TaskSchedulerTest {
+    private final TaskScheduler scheduler = new TaskScheduler(1);
+    private final List<String> ran = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch blockerStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseBlocker = new CountDownLatch(1);
+
+    @BeforeEach
+    void occupyTheOnlyThread() throws InterruptedException {
+        scheduler.submit(TaskPriority.VISIBLE, "blocker", () -> {
+            blockerStarted.countDown();
+            return releaseBlocker.await(10, TimeUnit.SECONDS);
+        });
+        assertTrue(blockerStarted.await(10, TimeUnit.SECONDS));
+    }
+
+    @AfterEach
+    void releaseTheThread() {
+        releaseBlocker.countDown();
+    }
+
+    @Test
+    void runsQueuedTasksByPriorityThenInSubmissionOrder() throws Exception {
+        List<CompletableFuture<?>> tasks = List.of(
+                record(TaskPriority.WARMUP, "warmup"),
+                record(TaskPriority.PREFETCH, "prefetch-1"),
+                record(TaskPriority.VISIBLE, "visible-1"),
+                record(TaskPriority.PREFETCH, "prefetch-2"),
+                record(TaskPriority.VISIBLE, "visible-2"));
+
+        releaseBlocker.countDown();
+        awaitAll(tasks);
+
+        assertEquals(List.of("visible-1", "visible-2", "prefetch-1", "prefetch-2", "warmup"), ran);
+    }
+
+    @Test
+    void promotedTaskRunsAtItsNewPriority() throws Exception {
+        CompletableFuture<?> warmup = record(TaskPriority.WARMUP, "warmup");
+        CompletableFuture<?> prefetch = record(TaskPriority.PREFETCH, "prefetch");
+        CompletableFuture<?> promoted = record(TaskPriority.WARMUP, "promoted");
+
+        scheduler.promote(promoted, TaskPriority.VISIBLE);
+        // Demotions are ignored
+        scheduler.promote(prefetch, TaskPriority.WARMUP);
+
+        releaseBlocker.countDown();
+        awaitAll(List.of(warmup, prefetch, promoted));
+
+        assertEquals(List.of("promoted", "prefetch", "warmup"), ran);
+    }
+
+    @Test
+    void cancelAllDropsQueuedTasksOfTheOwnerOnly() throws Exception {
+        Object hiddenScreen = new Object();
+        Object shownScreen = new Object();
+        CompletableFuture<String> dropped1 = scheduler.submit(TaskPriority.VISIBLE, hiddenScreen, () -> run("dropped-1"));
+        CompletableFuture<String> dropped2 = scheduler.submit(TaskPriority.PREFETCH, hiddenScreen, () -> run("dropped-2"));
+        CompletableFuture<String> kept = scheduler.submit(TaskPriority.PREFETCH, shownScreen, () -> run("kept"));
+
+        assertEquals(2, scheduler.cancelAll(hiddenScreen));
+        assertEquals(0, scheduler.cancelAll(hiddenScreen));
+
+        releaseBlocker.countDown();
+        assertEquals("kept", kept.get(10, TimeUnit.SECONDS));
+        assertTrue(dropped1.isCancelled());
+        assertTrue(dropped2.isCancelled());
+        assertEquals(List.of("kept"), ran);
+        assertEquals(0, scheduler.getQueuedCount());
+    }
+
+    @Test
+    void cancelAllLetsARunningTaskFinishWithoutInterruptingIt() throws Exception {
+        releaseBlocker.countDown();
+        Object screen = new Object();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        AtomicBoolean completed = new AtomicBoolean();
+
+        CompletableFuture<String> task = scheduler.submit(TaskPriority.VISIBLE, screen, () -> {
+            running.countDown();
+            finish.await(10, TimeUnit.SECONDS);
+            interrupted.set(Thread.currentThread().isInterrupted());
+            completed.set(true);
+            return "page";
+        });
+        assertTrue(running.await(10, TimeUnit.SECONDS));
+
+        assertEquals(1, scheduler.cancelAll(screen));
+        finish.countDown();
+        // The next task on the single thread runs only once the cancelled one has returned
+        scheduler.submit(TaskPriority.VISIBLE, "probe", () -> true).get(10, TimeUnit.SECONDS);
+
+        assertTrue(task.isCancelled());
+        assertTrue(completed.get());
+        assertFalse(interrupted.get());
+    }
+
+    private CompletableFuture<String> record(TaskPriority priority, String name) {
+        return scheduler.submit(priority, this, () -> run(name));
+    }
+
+    private String run(String name) {
+        ran.add(name);
+        return name;
+    }
+
+    private static void awaitAll(List<CompletableFuture<?>> tasks) throws Exception {
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+    }
+}